@@ -0,0 +1,135 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.KeyFactory;
+import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.util.benchmark.BenchmarkStubs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up the values of a container through a {@link HashMap}
+ * keyed by {@link Key}, as containers commonly do, with a
+ * {@link DenseValueContainer}. Each benchmark looks up every key once, half
+ * of which are stored in the container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValueLookupBenchmark {
+
+    @Param({"16", "128"})
+    private int keyCount;
+
+    private Key<Value<Integer>>[] keys;
+    private Map<Key<?>, BaseValue<?>> map;
+    private DenseValueContainer container;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        // A generic array can't be created, the cast is safe as the array
+        // only ever holds the integer keys created below
+        this.keys = (Key<Value<Integer>>[]) new Key<?>[this.keyCount];
+        this.map = new HashMap<>();
+        this.container = new DenseValueContainer();
+        for (int i = 0; i < this.keyCount; i++) {
+            final Key<Value<Integer>> key = KeyFactory.makeSingleKey(Integer.class, Value.class, DataQuery.of("Key" + i));
+            final Integer element = i;
+            this.keys[i] = key;
+            if (i % 2 == 0) {
+                final Value<Integer> value = BenchmarkStubs.stub(Value.class, "value" + i,
+                        ImmutableMap.of("getKey", args -> key, "get", args -> element));
+                this.map.put(key, value);
+                this.container.put(value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public int mapGet() {
+        int sum = 0;
+        for (Key<Value<Integer>> key : this.keys) {
+            final BaseValue<?> value = this.map.get(key);
+            if (value != null) {
+                sum += ((BaseValue<Integer>) value).get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int containerGet() {
+        int sum = 0;
+        for (Key<Value<Integer>> key : this.keys) {
+            sum += this.container.getOrElse(key, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int mapSupports() {
+        int count = 0;
+        for (Key<Value<Integer>> key : this.keys) {
+            if (this.map.containsKey(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int containerSupports() {
+        int count = 0;
+        for (Key<Value<Integer>> key : this.keys) {
+            if (this.container.supports(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
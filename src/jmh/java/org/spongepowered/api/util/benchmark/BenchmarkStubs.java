@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.benchmark;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Creates minimal implementations of API interfaces for benchmarks, which
+ * can't depend on an implementation of the API.
+ */
+public final class BenchmarkStubs {
+
+    private BenchmarkStubs() {
+    }
+
+    /**
+     * Handles a call to a stubbed method.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Returns the result of the call.
+         *
+         * @param args The arguments of the call, never null
+         * @return The result of the call
+         */
+        Object handle(Object[] args);
+
+    }
+
+    /**
+     * Creates an instance of the interface which answers the methods with the
+     * given names through the handlers. Identity based {@code equals},
+     * {@code hashCode} and {@code toString} are provided, any other method
+     * throws an {@link UnsupportedOperationException}.
+     *
+     * @param type The interface to implement
+     * @param name The name returned by toString
+     * @param handlers The handlers by method name
+     * @param <T> The type of the interface
+     * @return The stub instance
+     */
+    public static <T> T stub(Class<T> type, String name, Map<String, Handler> handlers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            final Object[] arguments = args == null ? new Object[0] : args;
+            final Handler handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.handle(arguments);
+            }
+            return handleObjectMethod(proxy, method, arguments, name);
+        }));
+    }
+
+    private static Object handleObjectMethod(Object proxy, Method method, Object[] args, String name) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return name;
+            default:
+                throw new UnsupportedOperationException(method.toString());
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.benchmark.BenchmarkStubs;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link BlockRay} iterator with the
+ * {@link BlockRay#trace(BlockRayVisitor)} and
+ * {@link BlockRay#traceTypes(BlockTypeRayVisitor)} traversals, for a line of
+ * sight through air until the ray hits the ground.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockRayBenchmark {
+
+    private static final int GROUND_LEVEL = 64;
+
+    private BlockType air;
+    private BlockType stone;
+    private Extent extent;
+    private Vector3d start;
+    private Vector3d direction;
+
+    @Setup
+    public void setup() {
+        this.air = BenchmarkStubs.stub(BlockType.class, "air", Collections.emptyMap());
+        this.stone = BenchmarkStubs.stub(BlockType.class, "stone", Collections.emptyMap());
+        final Vector3i min = new Vector3i(-30000000, 0, -30000000);
+        final Vector3i max = new Vector3i(30000000, 255, 30000000);
+        this.extent = BenchmarkStubs.stub(Extent.class, "extent", ImmutableMap.<String, BenchmarkStubs.Handler>builder()
+                .put("getBlockMin", args -> min)
+                .put("getBlockMax", args -> max)
+                .put("containsBlock", args -> (int) args[1] >= min.getY() && (int) args[1] <= max.getY())
+                .put("getBlockType", args -> typeAt((int) args[1]))
+                .put("getBlockTypes", args -> {
+                    final int[] positions = (int[]) args[0];
+                    final BlockType[] types = (BlockType[]) args[2];
+                    for (int i = 0; i < (int) args[1]; i++) {
+                        types[i] = typeAt(positions[i * 3 + 1]);
+                    }
+                    return null;
+                })
+                .build());
+        this.start = new Vector3d(0.5, 100.62, 0.5);
+        this.direction = new Vector3d(0.7, -0.4, 0.6).normalize();
+    }
+
+    private BlockType typeAt(int y) {
+        return y < GROUND_LEVEL ? this.stone : this.air;
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        for (BlockRayHit<Extent> hit : BlockRay.from(this.extent, this.start).direction(this.direction)
+                .filter(BlockRay.<Extent>blockTypeFilter(this.air))) {
+            blackhole.consume(hit);
+        }
+    }
+
+    @Benchmark
+    public void trace(Blackhole blackhole) {
+        BlockRay.from(this.extent, this.start).direction(this.direction)
+                .filter(BlockRay.<Extent>blockTypeFilter(this.air))
+                .trace((x, y, z, normal) -> {
+                    blackhole.consume(x + y + z);
+                    return true;
+                });
+    }
+
+    @Benchmark
+    public void traceTypes(Blackhole blackhole) {
+        BlockRay.from(this.extent, this.start).direction(this.direction)
+                .traceTypes((x, y, z, normal, type) -> {
+                    if (type != this.air) {
+                        return false;
+                    }
+                    blackhole.consume(x + y + z);
+                    return true;
+                });
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntitySnapshot;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.util.benchmark.BenchmarkStubs;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the scanning queries of {@link EntityUniverse} with the ones of an
+ * {@link EntityGrid}, for 10k and 100k entities spread over a 2048 block
+ * wide area. Each query benchmark runs 16 queries, as a plugin would in a
+ * tick. The grid is built once per tick, which is measured on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntityQueryBenchmark {
+
+    private static final int AREA_SIZE = 2048;
+    private static final int QUERIES = 16;
+    private static final double DISTANCE = 24;
+
+    @Param({"10000", "100000"})
+    private int entityCount;
+
+    // Locations only keep a weak reference to their extent
+    private World world;
+    private List<Entity> entities;
+    private EntityUniverse universe;
+    private EntityGrid grid;
+    private Vector3d[] centers;
+
+    @Setup
+    public void setup() {
+        this.world = BenchmarkStubs.stub(World.class, "world", Collections.emptyMap());
+        final Random random = new Random(0);
+        this.entities = new ArrayList<>(this.entityCount);
+        for (int i = 0; i < this.entityCount; i++) {
+            final Location<World> location = new Location<>(this.world, random.nextDouble() * AREA_SIZE, 64 + random.nextDouble() * 32,
+                    random.nextDouble() * AREA_SIZE);
+            this.entities.add(BenchmarkStubs.stub(Entity.class, "entity", ImmutableMap.of("getLocation", args -> location)));
+        }
+        this.universe = new ListEntityUniverse(this.entities);
+        this.grid = EntityGrid.of(this.entities);
+        this.centers = new Vector3d[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            this.centers[i] = new Vector3d(random.nextDouble() * AREA_SIZE, 80, random.nextDouble() * AREA_SIZE);
+        }
+    }
+
+    @Benchmark
+    public EntityGrid buildGrid() {
+        return EntityGrid.of(this.entities);
+    }
+
+    @Benchmark
+    public int scanNearby() {
+        int found = 0;
+        for (Vector3d center : this.centers) {
+            found += this.universe.getNearbyEntities(center, DISTANCE).size();
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gridNearby() {
+        int found = 0;
+        for (Vector3d center : this.centers) {
+            found += this.grid.getNearbyEntities(center, DISTANCE).size();
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int scanBox() {
+        int found = 0;
+        for (Vector3d center : this.centers) {
+            found += this.universe.getEntitiesInBox(AABB.around(center, DISTANCE)).size();
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gridBox() {
+        int found = 0;
+        for (Vector3d center : this.centers) {
+            found += this.grid.getEntitiesInBox(AABB.around(center, DISTANCE)).size();
+        }
+        return found;
+    }
+
+    private static final class ListEntityUniverse implements EntityUniverse {
+
+        private final List<Entity> entities;
+
+        ListEntityUniverse(List<Entity> entities) {
+            this.entities = entities;
+        }
+
+        @Override
+        public Collection<Entity> getEntities() {
+            return this.entities;
+        }
+
+        @Override
+        public Collection<Entity> getEntities(Predicate<Entity> filter) {
+            return this.entities.stream().filter(filter).collect(Collectors.toList());
+        }
+
+        @Override
+        public Optional<Entity> createEntity(EntityType type, Vector3d position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Entity> createEntity(DataContainer entityContainer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Entity> createEntity(DataContainer entityContainer, Vector3d position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Entity> restoreSnapshot(EntitySnapshot snapshot, Vector3d position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean spawnEntity(Entity entity, Cause cause) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.benchmark.BenchmarkStubs;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a sequential and a parallel {@link BlockVolumeWorker#reduce}
+ * counting the ores of immutable volumes of increasing size, such as the ones
+ * returned by {@link ImmutableBlockVolume#getImmutableBlockCopy()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockVolumeWorkerBenchmark {
+
+    @Param({"32", "64", "128"})
+    private int size;
+
+    private BlockState ore;
+    private BlockVolumeWorker<ImmutableBlockVolume> sequential;
+    private BlockVolumeWorker<ImmutableBlockVolume> parallel;
+
+    @Setup
+    public void setup() {
+        final BlockState stone = BenchmarkStubs.stub(BlockState.class, "stone", Collections.emptyMap());
+        this.ore = BenchmarkStubs.stub(BlockState.class, "ore", Collections.emptyMap());
+        final BlockState[] blocks = new BlockState[this.size * this.size * this.size];
+        final Random random = new Random(0);
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = random.nextInt(50) == 0 ? this.ore : stone;
+        }
+        final Vector3i min = new Vector3i(-this.size / 2, 0, -this.size / 2);
+        final Vector3i max = min.add(this.size - 1, this.size - 1, this.size - 1);
+        final Map<String, BenchmarkStubs.Handler> handlers = ImmutableMap.<String, BenchmarkStubs.Handler>builder()
+                .put("getBlockMin", args -> min)
+                .put("getBlockMax", args -> max)
+                .put("getBlock", args -> blocks[(((int) args[0] - min.getX()) * this.size + (int) args[1] - min.getY()) * this.size
+                        + (int) args[2] - min.getZ()])
+                .build();
+        final UnmodifiableBlockVolume view = BenchmarkStubs.stub(UnmodifiableBlockVolume.class, "view", handlers);
+        final ImmutableBlockVolume volume = BenchmarkStubs.stub(ImmutableBlockVolume.class, "volume",
+                ImmutableMap.<String, BenchmarkStubs.Handler>builder()
+                        .putAll(handlers)
+                        .put("getUnmodifiableBlockView", args -> view)
+                        .build());
+        this.sequential = new ParallelBlockVolumeWorker<>(volume, Runnable::run);
+        this.parallel = this.sequential.parallel();
+    }
+
+    private int countOres(BlockVolumeWorker<ImmutableBlockVolume> worker) {
+        return worker.reduce((volume, x, y, z, count) -> volume.getBlock(x, y, z) == this.ore ? count + 1 : count, Integer::sum, 0);
+    }
+
+    @Benchmark
+    public int sequential() {
+        return countOres(this.sequential);
+    }
+
+    @Benchmark
+    public int parallel() {
+        return countOres(this.parallel);
+    }
+
+}
@@ -38,6 +38,7 @@
 import org.spongepowered.api.network.status.Favicon;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.registry.CatalogRegistryModule;
+import org.spongepowered.api.registry.CatalogSnapshot;
 import org.spongepowered.api.registry.RegistryModule;
 import org.spongepowered.api.resourcepack.ResourcePack;
 import org.spongepowered.api.scoreboard.displayslot.DisplaySlot;
@@ -111,6 +112,25 @@ public interface GameRegistry {
      */
     <T extends CatalogType> Collection<T> getAllOf(Class<T> typeClass);
 
+    /**
+     * Gets a {@link CatalogSnapshot} of all available types of the requested
+     * {@link CatalogType}, indexed for lookups by case insensitive id and by
+     * ordinal. Snapshots are immutable and may be queried from any thread.
+     *
+     * <p>Implementations should cache the snapshot of every catalog class and
+     * atomically replace it when {@link #register(Class, CatalogType)} or a
+     * {@link RegistryModule} adds types, so this is a single read for the
+     * caller. The default implementation builds a new snapshot from
+     * {@link #getAllOf(Class)} on every call.</p>
+     *
+     * @param typeClass The class of {@link CatalogType}
+     * @param <T> The type of {@link CatalogType}
+     * @return The snapshot of the currently registered types
+     */
+    default <T extends CatalogType> CatalogSnapshot<T> getSnapshot(Class<T> typeClass) {
+        return CatalogSnapshot.of(typeClass, getAllOf(typeClass));
+    }
+
     /**
      * Registers the {@link CatalogRegistryModule} for dummy registration and handling.
      * By default, the only supported modules that can be registered are dependent that
@@ -27,7 +27,10 @@
 import com.flowpowered.math.vector.Vector3d;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.channel.ChatTypeMessageReceiver;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.profile.GameProfileManager;
 import org.spongepowered.api.resourcepack.ResourcePack;
 import org.spongepowered.api.scoreboard.Scoreboard;
@@ -318,6 +321,29 @@ public interface Server {
      */
     void setBroadcastChannel(MessageChannel channel);
 
+    /**
+     * Sends the same message to all of the specified receivers.
+     *
+     * <p>Unlike sending the message to each receiver separately, this allows
+     * the implementation to serialize the message only once and share the
+     * encoded result between all receivers. This is used by
+     * {@link MessageChannel#send(Object, Text, ChatType)} for each group of
+     * receivers with an identical transformed message.</p>
+     *
+     * @param receivers The receivers to send the message to
+     * @param type The type of message
+     * @param message The message to send
+     */
+    default void sendMessage(Iterable<? extends MessageReceiver> receivers, ChatType type, Text message) {
+        for (MessageReceiver receiver : receivers) {
+            if (receiver instanceof ChatTypeMessageReceiver) {
+                ((ChatTypeMessageReceiver) receiver).sendMessage(type, message);
+            } else {
+                receiver.sendMessage(message);
+            }
+        }
+    }
+
     /**
      * Gets the bound {@link InetSocketAddress} from where this server is accepting
      * connections.
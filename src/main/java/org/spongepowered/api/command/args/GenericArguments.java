@@ -43,6 +43,7 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.ServiceReference;
 import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.selector.Selector;
@@ -937,6 +938,8 @@ public Text getUsage(CommandSource src) {
     }
 
     private static class UserCommandElement extends PatternMatchingCommandElement {
+        private static final ServiceReference<UserStorageService> USER_STORAGE = ServiceReference.lazy(UserStorageService.class);
+
         private final PlayerCommandElement possiblePlayer;
 
         protected UserCommandElement(@Nullable Text key) {
@@ -958,7 +961,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getGame().getServiceManager().provideUnchecked(UserStorageService.class).getAll().stream()
+            return USER_STORAGE.getUnchecked().getAll().stream()
                     .map(GameProfile::getName)
                     .filter(Optional::isPresent)
                     .map(Optional::get)
@@ -967,7 +970,7 @@ protected Iterable<String> getChoices(CommandSource source) {
 
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
-            return Sponge.getGame().getServiceManager().provideUnchecked(UserStorageService.class).get(choice).get();
+            return USER_STORAGE.getUnchecked().get(choice).get();
         }
     }
 
@@ -1279,11 +1282,7 @@ protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getGame().getRegistry().getAllOf(this.catalogType).stream()
-                .<String>map(input -> {
-                return input == null ? null : input.getId(); // TODO: ids or names?
-                })
-                .collect(Collectors.toList());
+            return Sponge.getGame().getRegistry().getSnapshot(this.catalogType).getIds(); // TODO: ids or names?
         }
 
         @Override
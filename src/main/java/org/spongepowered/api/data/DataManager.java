@@ -24,14 +24,22 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.DataManipulatorBuilder;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulatorBuilder;
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
+import org.spongepowered.api.data.persistence.DataContentUpdaterCache;
+import org.spongepowered.api.data.persistence.InvalidDataException;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * A manager of the overall Data API. This handles the registration of
@@ -78,6 +86,11 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>As this is called for every versioned {@link DataView} that is
+     * deserialized, implementations should cache the wrapped updaters by
+     * class and versions, for example with a
+     * {@link DataContentUpdaterCache}.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -113,6 +126,52 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz, DataView dataView);
 
+    /**
+     * Deserializes all of the provided {@link DataView}s into instances of
+     * the {@link DataSerializable}, looking up the {@link DataBuilder} once
+     * for the whole batch. Views the builder can't build a serializable from
+     * are skipped, the order of the other views is kept. If there is no
+     * {@link DataBuilder} registered for the {@link DataSerializable}, an
+     * empty list is returned.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param <T> The type of data serializable
+     * @return The deserialized data serializables
+     * @throws InvalidDataException If a view can't be deserialized
+     */
+    default <T extends DataSerializable> List<T> deserializeAll(Class<T> clazz, Iterable<? extends DataView> dataViews) {
+        return deserializeAll(clazz, dataViews, false);
+    }
+
+    /**
+     * Deserializes all of the provided {@link DataView}s, like
+     * {@link #deserializeAll(Class, Iterable)}, optionally spreading the
+     * work over the common fork join pool. Deserializing in parallel
+     * requires the {@link DataBuilder} and the {@link DataContentUpdater}s
+     * of the {@link DataSerializable} to be thread safe.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param parallel Whether to deserialize the views in parallel
+     * @param <T> The type of data serializable
+     * @return The deserialized data serializables
+     * @throws InvalidDataException If a view can't be deserialized
+     */
+    default <T extends DataSerializable> List<T> deserializeAll(Class<T> clazz, Iterable<? extends DataView> dataViews, boolean parallel) {
+        checkNotNull(dataViews, "dataViews");
+        final Optional<DataBuilder<T>> builder = getBuilder(checkNotNull(clazz, "clazz"));
+        if (!builder.isPresent()) {
+            return Collections.emptyList();
+        }
+        final DataBuilder<T> dataBuilder = builder.get();
+        return StreamSupport.stream(dataViews.spliterator(), parallel)
+                .map(dataBuilder::build)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Registers the given {@link ImmutableDataHolder} class with it's
      * associated {@link ImmutableDataBuilder}. The builder can be used to
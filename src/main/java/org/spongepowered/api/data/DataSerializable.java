@@ -24,8 +24,12 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.data.persistence.DataContentUpdater;
 
+import java.util.Map;
+
 /**
  * Represents an object that can be represented by a {@link DataContainer}.
  * <p>DataContainers received from {@link DataSerializable#toContainer()}
@@ -54,4 +58,25 @@ public interface DataSerializable {
      */
     DataContainer toContainer();
 
+    /**
+     * Serializes this object into the given {@link DataView}, rather than a
+     * newly created {@link DataContainer}. This allows nested serializables
+     * and lazily created snapshots to write their data straight into the
+     * containing view without building and copying intermediate containers.
+     *
+     * <p>The default implementation copies the contents of
+     * {@link #toContainer()} into the view, implementations should write
+     * their data directly instead.</p>
+     *
+     * @param view The view to write to
+     * @return The view, for chaining
+     */
+    default DataView writeTo(DataView view) {
+        checkNotNull(view, "view");
+        for (Map.Entry<DataQuery, Object> entry : toContainer().getValues(false).entrySet()) {
+            view.set(entry.getKey(), entry.getValue());
+        }
+        return view;
+    }
+
 }
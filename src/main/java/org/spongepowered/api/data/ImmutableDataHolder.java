@@ -25,10 +25,12 @@
 package org.spongepowered.api.data;
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.data.manipulator.LazyManipulators;
 import org.spongepowered.api.data.property.PropertyHolder;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValueStore;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 
 import java.util.List;
 
@@ -41,6 +43,15 @@
  * asynchronously as all {@link BaseValue}s are copied into
  * {@link ImmutableValue} counterparts.
  *
+ * <p>Snapshots are taken often, for example of every block changed in a
+ * {@link ChangeBlockEvent}, and most of them are never inspected beyond
+ * their type. Implementations should record the state of the source when
+ * the snapshot is taken and only create its
+ * {@link ImmutableDataManipulator}s on first access, see
+ * {@link LazyManipulators}. {@link #toContainer()} and
+ * {@link #writeTo(DataView)} should serialize the recorded state without
+ * creating the manipulators.</p>
+ *
  * @see DataHolder
  * @param <T> The sub type of immutable data holder
  */
@@ -49,7 +60,8 @@
 
     /**
      * Get a copy of all properties defined on this
-     * {@link ImmutableDataHolder}, with their current values.
+     * {@link ImmutableDataHolder}, with their current values. Creates the
+     * manipulators of lazy snapshots.
      *
      * @return A collection of all known manipulators
      */
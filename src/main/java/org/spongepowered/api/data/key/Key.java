@@ -56,4 +56,20 @@
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the ordinal of this {@link Key}. Ordinals are small, dense and
+     * unique among all keys of the running game, and never change for the
+     * lifetime of a key, which allows value stores to index an array by
+     * them instead of hashing the key.
+     *
+     * <p>Keys created by the {@link KeyFactory} receive their ordinal on
+     * creation, other implementations receive one the first time this
+     * method is called.</p>
+     *
+     * @return The ordinal of this key
+     */
+    default int getOrdinal() {
+        return KeyOrdinals.of(this);
+    }
+
 }
@@ -65,28 +65,8 @@ private KeyFactory() {}
      */
     public static <E, T extends BaseValue, V extends BaseValue<E>> Key<V> makeSingleKey(final Class<E> elementClass, final Class<T> valueClass,
             final DataQuery query) {
-        return new Key<V>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<V> getValueClass() {
-                return (Class<V>) (Class) valueClass;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, valueClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + valueClass.getSimpleName() + "<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return new FactoryKey<>((Class<V>) (Class) valueClass, query, Objects.hashCode(elementClass, valueClass, query),
+                "Key{Value:" + valueClass.getSimpleName() + "<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -99,28 +79,8 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<ListValue<E>> makeListKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<ListValue<E>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<ListValue<E>> getValueClass() {
-                return (Class<ListValue<E>>) (Class) ListValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "ListValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return new FactoryKey<>((Class<ListValue<E>>) (Class) ListValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "ListValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -133,28 +93,8 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<SetValue<E>> makeSetKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<SetValue<E>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<SetValue<E>> getValueClass() {
-                return (Class<SetValue<E>>) (Class) SetValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "SetValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return new FactoryKey<>((Class<SetValue<E>>) (Class) SetValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "SetValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -170,29 +110,8 @@ public String toString() {
      * @return The generated key
      */
     public static <K, V> Key<MapValue<K, V>> makeMapKey(final Class<K> keyClass, final Class<V> valueclass, final DataQuery query) {
-        return new Key<MapValue<K, V>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<MapValue<K, V>> getValueClass() {
-                return (Class<MapValue<K, V>>) (Class) MapValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(keyClass, valueclass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "MapValue<" + keyClass.getSimpleName() + "," + valueclass.getSimpleName() + ">, Query: " + query.toString()
-                       + "}";
-            }
-        };
+        return new FactoryKey<>((Class<MapValue<K, V>>) (Class) MapValue.class, query, Objects.hashCode(keyClass, valueclass, query),
+                "Key{Value:" + "MapValue<" + keyClass.getSimpleName() + "," + valueclass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -206,31 +125,14 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<OptionalValue<E>> makeOptionalKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<OptionalValue<E>>() {
-            @Override
-            public Class<OptionalValue<E>> getValueClass() {
-                return (Class<OptionalValue<E>>) (Class<?>) OptionalValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "OptionalValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return new FactoryKey<>((Class<OptionalValue<E>>) (Class<?>) OptionalValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "OptionalValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     static <E, V extends BaseValue<E>> Key<V> fake(final String keyName) {
         return new Key<V>() {
+            private final int ordinal = KeyOrdinals.next();
+
             @Override
             public Class<V> getValueClass() {
                 throw new UnsupportedOperationException("Key " + keyName + " is not implemented");
@@ -240,7 +142,64 @@ public Class<V> getValueClass() {
             public DataQuery getQuery() {
                 throw new UnsupportedOperationException("Key " + keyName + " is not implemented");
             }
+
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
         };
     }
 
+    /**
+     * A {@link Key} with a precomputed hash code and an ordinal assigned on
+     * creation. Keys are compared by identity, so looking one up in a map
+     * costs a field read and a reference comparison.
+     */
+    private static final class FactoryKey<V extends BaseValue<?>> implements Key<V> {
+
+        private final Class<V> valueClass;
+        private final DataQuery query;
+        private final int hashCode;
+        private final String string;
+        private final int ordinal = KeyOrdinals.next();
+
+        FactoryKey(Class<V> valueClass, DataQuery query, int hashCode, String string) {
+            this.valueClass = valueClass;
+            this.query = query;
+            this.hashCode = hashCode;
+            this.string = string;
+        }
+
+        @Override
+        public Class<V> getValueClass() {
+            return this.valueClass;
+        }
+
+        @Override
+        public DataQuery getQuery() {
+            return this.query;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return this.string;
+        }
+
+    }
+
 }
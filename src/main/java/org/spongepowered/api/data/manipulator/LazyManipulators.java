@@ -0,0 +1,129 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.ImmutableDataHolder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * The {@link ImmutableDataManipulator}s of an {@link ImmutableDataHolder}
+ * snapshot, created from the recorded state of the source on first access
+ * rather than when the snapshot is taken.
+ *
+ * <p>The supplier should only capture a cheap copy of the source state, such
+ * as its raw data. It is called at most once, even when several threads
+ * access the manipulators at once, and is released afterwards so the
+ * recorded state can be collected.</p>
+ */
+public final class LazyManipulators {
+
+    @Nullable private volatile Supplier<? extends Collection<? extends ImmutableDataManipulator<?, ?>>> source;
+    @Nullable private volatile List<ImmutableDataManipulator<?, ?>> manipulators;
+
+    private LazyManipulators(@Nullable Supplier<? extends Collection<? extends ImmutableDataManipulator<?, ?>>> source,
+            @Nullable List<ImmutableDataManipulator<?, ?>> manipulators) {
+        this.source = source;
+        this.manipulators = manipulators;
+    }
+
+    /**
+     * Creates lazy manipulators which are created by the given supplier on
+     * first access.
+     *
+     * @param source The supplier creating the manipulators
+     * @return The lazy manipulators
+     */
+    public static LazyManipulators of(Supplier<? extends Collection<? extends ImmutableDataManipulator<?, ?>>> source) {
+        return new LazyManipulators(checkNotNull(source, "source"), null);
+    }
+
+    /**
+     * Creates lazy manipulators which are already materialized, for example
+     * for a snapshot derived from another one.
+     *
+     * @param manipulators The manipulators
+     * @return The lazy manipulators
+     */
+    public static LazyManipulators ofMaterialized(Collection<? extends ImmutableDataManipulator<?, ?>> manipulators) {
+        return new LazyManipulators(null, ImmutableList.copyOf(manipulators));
+    }
+
+    /**
+     * Gets whether the manipulators have been created yet.
+     *
+     * @return True if the manipulators have been created
+     */
+    public boolean isMaterialized() {
+        return this.manipulators != null;
+    }
+
+    /**
+     * Gets the manipulators, creating them if this is the first access.
+     *
+     * @return The manipulators
+     */
+    public List<ImmutableDataManipulator<?, ?>> get() {
+        List<ImmutableDataManipulator<?, ?>> manipulators = this.manipulators;
+        if (manipulators == null) {
+            synchronized (this) {
+                manipulators = this.manipulators;
+                if (manipulators == null) {
+                    manipulators = ImmutableList.copyOf(this.source.get());
+                    this.manipulators = manipulators;
+                    this.source = null;
+                }
+            }
+        }
+        return manipulators;
+    }
+
+    /**
+     * Gets the manipulator of the given class, creating the manipulators if
+     * this is the first access.
+     *
+     * @param manipulatorClass The class of the manipulator
+     * @param <T> The type of manipulator
+     * @return The manipulator, if available
+     */
+    public <T extends ImmutableDataManipulator<?, ?>> Optional<T> get(Class<T> manipulatorClass) {
+        checkNotNull(manipulatorClass, "manipulatorClass");
+        for (ImmutableDataManipulator<?, ?> manipulator : get()) {
+            if (manipulatorClass.isInstance(manipulator)) {
+                return Optional.of(manipulatorClass.cast(manipulator));
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -49,7 +49,7 @@
     protected AbstractImmutableBooleanData(boolean value, Key<Value<Boolean>> usedKey, boolean defaultValue) {
         super(value, usedKey);
         this.defaultValue = defaultValue;
-        this.immutableValue = Sponge.getRegistry().getValueFactory().createValue(usedKey, defaultValue, value).asImmutable();
+        this.immutableValue = Sponge.getRegistry().getValueFactory().createImmutableBooleanValue(usedKey, value, defaultValue);
     }
 
     @Override
@@ -0,0 +1,173 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataView;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the registered {@link DataContentUpdater}s of every class and
+ * caches the chains of updaters needed to update content from one version
+ * to another, so that a chain is resolved once per (class, from version,
+ * to version) rather than once per deserialized {@link DataView}. Meant to
+ * back {@link DataManager#registerContentUpdater} and
+ * {@link DataManager#getWrappedContentUpdater}.
+ *
+ * <p>Of all chains of updaters leading from one version to the other, the
+ * one with the fewest updaters is used. Registering an updater drops the
+ * cached chains of its class.</p>
+ *
+ * <p>This cache is thread safe, lookups don't lock.</p>
+ */
+public final class DataContentUpdaterCache {
+
+    private final Map<Class<?>, ClassUpdaters> updaters = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the given updater for the given class.
+     *
+     * @param clazz The class whose content the updater updates
+     * @param updater The updater
+     */
+    public synchronized void register(Class<?> clazz, DataContentUpdater updater) {
+        checkNotNull(clazz, "clazz");
+        checkNotNull(updater, "updater");
+        checkArgument(updater.getInputVersion() < updater.getOutputVersion(), "The updater %s doesn't update to a newer version", updater);
+        final ClassUpdaters current = this.updaters.get(clazz);
+        final ImmutableList.Builder<DataContentUpdater> builder = ImmutableList.builder();
+        if (current != null) {
+            builder.addAll(current.updaters);
+        }
+        // Replacing the entry drops all chains cached for the class at once
+        this.updaters.put(clazz, new ClassUpdaters(builder.add(updater).build()));
+    }
+
+    /**
+     * Gets a single updater updating the content of the given class from
+     * the given version to the other.
+     *
+     * @param clazz The class of the content
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @return The content updater, if the registered updaters cover the
+     *     complete jump
+     */
+    public Optional<DataContentUpdater> get(Class<?> clazz, int fromVersion, int toVersion) {
+        final ClassUpdaters classUpdaters = this.updaters.get(checkNotNull(clazz, "clazz"));
+        if (classUpdaters == null || fromVersion >= toVersion) {
+            return Optional.empty();
+        }
+        final long key = ((long) fromVersion << 32) | (toVersion & 0xFFFFFFFFL);
+        return classUpdaters.chains.computeIfAbsent(key, k -> classUpdaters.resolve(fromVersion, toVersion));
+    }
+
+    private static final class ClassUpdaters {
+
+        final List<DataContentUpdater> updaters;
+        final Map<Long, Optional<DataContentUpdater>> chains = new ConcurrentHashMap<>();
+
+        ClassUpdaters(List<DataContentUpdater> updaters) {
+            this.updaters = updaters;
+        }
+
+        Optional<DataContentUpdater> resolve(int fromVersion, int toVersion) {
+            // Breadth first, so the chain with the fewest updaters is found
+            final Map<Integer, DataContentUpdater> reachedBy = new HashMap<>();
+            final Deque<Integer> queue = new ArrayDeque<>();
+            queue.add(fromVersion);
+            while (!queue.isEmpty() && !reachedBy.containsKey(toVersion)) {
+                final int version = queue.poll();
+                for (DataContentUpdater updater : this.updaters) {
+                    final int output = updater.getOutputVersion();
+                    if (updater.getInputVersion() == version && output <= toVersion && output != fromVersion && !reachedBy.containsKey(output)) {
+                        reachedBy.put(output, updater);
+                        queue.add(output);
+                    }
+                }
+            }
+            if (!reachedBy.containsKey(toVersion)) {
+                return Optional.empty();
+            }
+            final List<DataContentUpdater> chain = new ArrayList<>();
+            for (int version = toVersion; version != fromVersion; ) {
+                final DataContentUpdater updater = reachedBy.get(version);
+                chain.add(0, updater);
+                version = updater.getInputVersion();
+            }
+            if (chain.size() == 1) {
+                return Optional.of(chain.get(0));
+            }
+            return Optional.of(new Chain(fromVersion, toVersion, chain.toArray(new DataContentUpdater[chain.size()])));
+        }
+
+    }
+
+    private static final class Chain implements DataContentUpdater {
+
+        private final int inputVersion;
+        private final int outputVersion;
+        private final DataContentUpdater[] updaters;
+
+        Chain(int inputVersion, int outputVersion, DataContentUpdater[] updaters) {
+            this.inputVersion = inputVersion;
+            this.outputVersion = outputVersion;
+            this.updaters = updaters;
+        }
+
+        @Override
+        public int getInputVersion() {
+            return this.inputVersion;
+        }
+
+        @Override
+        public int getOutputVersion() {
+            return this.outputVersion;
+        }
+
+        @Override
+        public DataView update(DataView content) {
+            DataView updated = content;
+            for (DataContentUpdater updater : this.updaters) {
+                updated = updater.update(updated);
+            }
+            return updated;
+        }
+
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link ValueContainer} storing its {@link BaseValue}s in an array indexed
+ * by {@link Key#getOrdinal()}, so that {@link #get(Key)} and
+ * {@link #supports(Key)} don't hash the key or walk a map. The supported keys
+ * are tracked in a {@link BitSet}.
+ *
+ * <p>The array grows to the highest ordinal stored, so a container is best
+ * used for the keys that were created early, such as the ones in
+ * {@link org.spongepowered.api.data.key.Keys}.</p>
+ *
+ * <p>This container is not thread safe. {@link #copy()} copies the storage,
+ * the values themselves are shared.</p>
+ */
+public final class DenseValueContainer implements ValueContainer<DenseValueContainer> {
+
+    private static final BaseValue<?>[] EMPTY = new BaseValue<?>[0];
+
+    private BaseValue<?>[] values;
+    private final BitSet keys;
+    private int size;
+
+    /**
+     * Creates a new empty container.
+     */
+    public DenseValueContainer() {
+        this.values = EMPTY;
+        this.keys = new BitSet();
+    }
+
+    private DenseValueContainer(DenseValueContainer other) {
+        this.values = other.values.clone();
+        this.keys = (BitSet) other.keys.clone();
+        this.size = other.size;
+    }
+
+    /**
+     * Stores the given value under its {@link BaseValue#getKey() key},
+     * replacing the value previously stored for that key.
+     *
+     * @param value The value to store
+     * @return The previously stored value, if available
+     */
+    public Optional<BaseValue<?>> put(BaseValue<?> value) {
+        final int ordinal = checkNotNull(value, "value").getKey().getOrdinal();
+        if (ordinal >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(ordinal + 1, this.values.length * 2));
+        }
+        final BaseValue<?> previous = this.values[ordinal];
+        this.values[ordinal] = value;
+        if (previous == null) {
+            this.keys.set(ordinal);
+            this.size++;
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Removes the value stored for the given key.
+     *
+     * @param key The key to remove the value for
+     * @return The removed value, if available
+     */
+    public Optional<BaseValue<?>> remove(Key<?> key) {
+        final BaseValue<?> previous = lookup(key);
+        if (previous != null) {
+            this.values[key.getOrdinal()] = null;
+            this.keys.clear(key.getOrdinal());
+            this.size--;
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Removes all values from this container.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.keys.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of values stored in this container.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? Optional.empty() : Optional.of(castElement(value));
+    }
+
+    @Override
+    public <E> E getOrNull(Key<? extends BaseValue<E>> key) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? null : castElement(value);
+    }
+
+    @Override
+    public <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? checkNotNull(defaultValue, "defaultValue") : castElement(value);
+    }
+
+    @Override
+    public int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? defaultValue : (Integer) value.get();
+    }
+
+    @Override
+    public long getLong(Key<? extends BaseValue<Long>> key, long defaultValue) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? defaultValue : (Long) value.get();
+    }
+
+    @Override
+    public double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? defaultValue : (Double) value.get();
+    }
+
+    @Override
+    public boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final BaseValue<?> value = lookup(key);
+        return value == null ? defaultValue : (Boolean) value.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
+        return Optional.ofNullable((V) lookup(key));
+    }
+
+    @Override
+    public boolean supports(Key<?> key) {
+        return this.keys.get(checkNotNull(key, "key").getOrdinal());
+    }
+
+    @Override
+    public DenseValueContainer copy() {
+        return new DenseValueContainer(this);
+    }
+
+    @Override
+    public Set<Key<?>> getKeys() {
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (int i = this.keys.nextSetBit(0); i >= 0; i = this.keys.nextSetBit(i + 1)) {
+            builder.add(this.values[i].getKey());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Set<ImmutableValue<?>> getValues() {
+        final ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
+        for (int i = this.keys.nextSetBit(0); i >= 0; i = this.keys.nextSetBit(i + 1)) {
+            final BaseValue<?> value = this.values[i];
+            builder.add(value instanceof ImmutableValue ? (ImmutableValue<?>) value : ((Value<?>) value).asImmutable());
+        }
+        return builder.build();
+    }
+
+    private BaseValue<?> lookup(Key<?> key) {
+        final int ordinal = checkNotNull(key, "key").getOrdinal();
+        return ordinal < this.values.length ? this.values[ordinal] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E castElement(BaseValue<?> value) {
+        return (E) value.get();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the {@link ImmutableValue}s created by the primitive methods of the
+ * {@link ValueFactory}. Each factory has its own cache, in which the values
+ * are cached by key.
+ *
+ * <p>Values are created lazily and published through atomic arrays: two
+ * threads may create the same value, but only the first one is kept.</p>
+ */
+final class ImmutableValueCache {
+
+    static final int INT_LOW = -128;
+    static final int INT_HIGH = 255;
+
+    private static final ConcurrentMap<ValueFactory, ImmutableValueCache> CACHES = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<Key<?>, AtomicReferenceArray<ImmutableValue<Boolean>>> booleans = new MapMaker().weakKeys().makeMap();
+    private final ConcurrentMap<Key<?>, IntValues> ints = new MapMaker().weakKeys().makeMap();
+
+    private ImmutableValueCache() {
+    }
+
+    static ImmutableValue<Boolean> getBoolean(ValueFactory factory, Key<Value<Boolean>> key, boolean element, boolean defaultValue) {
+        final AtomicReferenceArray<ImmutableValue<Boolean>> values = of(factory).booleans
+                .computeIfAbsent(key, k -> new AtomicReferenceArray<>(4));
+        final int index = (element ? 2 : 0) | (defaultValue ? 1 : 0);
+        final ImmutableValue<Boolean> value = values.get(index);
+        if (value != null) {
+            return value;
+        }
+        return publish(values, index, factory.createValue(key, element, defaultValue).asImmutable());
+    }
+
+    static ImmutableValue<Integer> getInt(ValueFactory factory, Key<Value<Integer>> key, int element, int defaultValue) {
+        if (element < INT_LOW || element > INT_HIGH) {
+            return factory.createValue(key, element, defaultValue).asImmutable();
+        }
+        final IntValues values = of(factory).ints.computeIfAbsent(key, k -> new IntValues(defaultValue));
+        if (values.defaultValue != defaultValue) {
+            // Only values sharing the first seen default are cached
+            return factory.createValue(key, element, defaultValue).asImmutable();
+        }
+        final ImmutableValue<Integer> value = values.values.get(element - INT_LOW);
+        if (value != null) {
+            return value;
+        }
+        return publish(values.values, element - INT_LOW, factory.createValue(key, element, defaultValue).asImmutable());
+    }
+
+    private static ImmutableValueCache of(ValueFactory factory) {
+        return CACHES.computeIfAbsent(factory, f -> new ImmutableValueCache());
+    }
+
+    private static <E> ImmutableValue<E> publish(AtomicReferenceArray<ImmutableValue<E>> values, int index, ImmutableValue<E> value) {
+        if (values.compareAndSet(index, null, value)) {
+            return value;
+        }
+        return values.get(index);
+    }
+
+    private static final class IntValues {
+
+        final int defaultValue;
+        final AtomicReferenceArray<ImmutableValue<Integer>> values = new AtomicReferenceArray<>(INT_HIGH - INT_LOW + 1);
+
+        IntValues(int defaultValue) {
+            this.defaultValue = defaultValue;
+        }
+
+    }
+
+}
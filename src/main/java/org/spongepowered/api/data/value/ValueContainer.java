@@ -35,6 +35,9 @@
 import org.spongepowered.api.data.value.mutable.CompositeValueStore;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -104,6 +107,95 @@ default <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
         return get(key).orElse(checkNotNull(defaultValue, "Provided a null default value for 'getOrElse(Key, null)'!"));
     }
 
+    /**
+     * Attempts to get the underlying int value if available.
+     *
+     * <p>Implementations should override this and the other primitive
+     * getters to avoid boxing the value, as numeric and boolean values such
+     * as health are often polled every tick.</p>
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @return The value, if available
+     */
+    default OptionalInt getInt(Key<? extends BaseValue<Integer>> key) {
+        final Optional<Integer> value = get(key);
+        return value.isPresent() ? OptionalInt.of(value.get()) : OptionalInt.empty();
+    }
+
+    /**
+     * Attempts to get the underlying int value if available. If the value
+     * is not set, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final Optional<Integer> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Attempts to get the underlying long value if available.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @return The value, if available
+     */
+    default OptionalLong getLong(Key<? extends BaseValue<Long>> key) {
+        final Optional<Long> value = get(key);
+        return value.isPresent() ? OptionalLong.of(value.get()) : OptionalLong.empty();
+    }
+
+    /**
+     * Attempts to get the underlying long value if available. If the value
+     * is not set, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default long getLong(Key<? extends BaseValue<Long>> key, long defaultValue) {
+        final Optional<Long> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Attempts to get the underlying double value if available.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @return The value, if available
+     */
+    default OptionalDouble getDouble(Key<? extends BaseValue<Double>> key) {
+        final Optional<Double> value = get(key);
+        return value.isPresent() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Attempts to get the underlying double value if available. If the value
+     * is not set, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final Optional<Double> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
+    /**
+     * Attempts to get the underlying boolean value if available. If the value
+     * is not set, the given {@code defaultValue} is returned.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final Optional<Boolean> value = get(key);
+        return value.isPresent() ? value.get() : defaultValue;
+    }
+
     /**
      * Gets the {@link BaseValue} for the given {@link Key}.
      *
@@ -24,7 +24,10 @@
  */
 package org.spongepowered.api.data.value;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.ListValue;
 import org.spongepowered.api.data.value.mutable.MapValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
@@ -65,6 +68,35 @@ public interface ValueFactory {
      */
     <E> Value<E> createValue(Key<Value<E>> key, E element, E defaultValue);
 
+    /**
+     * Gets an {@link ImmutableValue} with the provided {@link Key}, boolean
+     * element and default value. As immutable values can be shared, the
+     * returned values are cached, so polling boolean data doesn't allocate
+     * a value on every read.
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @return The immutable value
+     */
+    default ImmutableValue<Boolean> createImmutableBooleanValue(Key<Value<Boolean>> key, boolean element, boolean defaultValue) {
+        return ImmutableValueCache.getBoolean(this, checkNotNull(key, "key"), element, defaultValue);
+    }
+
+    /**
+     * Gets an {@link ImmutableValue} with the provided {@link Key}, int
+     * element and default value. Values of small elements, from -128 to
+     * 255, are cached per key, like {@link #createImmutableBooleanValue}.
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @return The immutable value
+     */
+    default ImmutableValue<Integer> createImmutableIntValue(Key<Value<Integer>> key, int element, int defaultValue) {
+        return ImmutableValueCache.getInt(this, checkNotNull(key, "key"), element, defaultValue);
+    }
+
     /**
      * Creates a new {@link ListValue} with the provided {@link Key} and
      * {@link List} of elements. The default value will be an empty list.
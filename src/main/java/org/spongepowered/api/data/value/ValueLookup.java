@@ -0,0 +1,260 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.mutable.CompositeValueStore;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The result of reading a fixed set of {@link Key}s from a
+ * {@link ValueContainer} at once, see
+ * {@link CompositeValueStore#getAll(ValueLookup)}.
+ *
+ * <p>A lookup can be filled again and again, for example once per tick to
+ * update a scoreboard, without allocating a new result. Elements are read
+ * without wrapping them in {@link Optional}s, and numeric and boolean
+ * elements can be read as primitives with a default for absent values.</p>
+ *
+ * <p>A lookup is not thread safe.</p>
+ */
+public final class ValueLookup {
+
+    private final Key<?>[] keys;
+    private final Object[] elements;
+
+    /**
+     * Creates a new lookup for the given keys, with all values absent.
+     *
+     * @param keys The keys to look up
+     */
+    public ValueLookup(Key<?>... keys) {
+        checkNotNull(keys, "keys");
+        this.keys = keys.clone();
+        for (Key<?> key : this.keys) {
+            checkNotNull(key, "key");
+        }
+        this.elements = new Object[keys.length];
+    }
+
+    /**
+     * Gets the keys looked up, in the order they were given.
+     *
+     * @return The keys
+     */
+    public List<Key<?>> getKeys() {
+        return ImmutableList.copyOf(this.keys);
+    }
+
+    /**
+     * Gets the key at the given index.
+     *
+     * @param index The index of the key
+     * @return The key
+     */
+    public Key<?> getKey(int index) {
+        checkElementIndex(index, this.keys.length);
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the number of keys looked up.
+     *
+     * @return The number of keys
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the index of the given key in this lookup.
+     *
+     * @param key The key
+     * @return The index of the key, or -1 if it isn't looked up
+     */
+    public int indexOf(Key<?> key) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == key || this.keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the element read for the key at the given index, or null if the
+     * container doesn't hold a value for it. Used by the containers filling
+     * this lookup.
+     *
+     * @param index The index of the key
+     * @param element The element, or null if absent
+     */
+    public void set(int index, Object element) {
+        checkElementIndex(index, this.keys.length);
+        this.elements[index] = element;
+    }
+
+    /**
+     * Marks all values as absent.
+     */
+    public void clear() {
+        Arrays.fill(this.elements, null);
+    }
+
+    /**
+     * Gets whether a value was read for the key at the given index.
+     *
+     * @param index The index of the key
+     * @return True if a value is present
+     */
+    public boolean isPresent(int index) {
+        checkElementIndex(index, this.keys.length);
+        return this.elements[index] != null;
+    }
+
+    /**
+     * Gets whether a value was read for the given key.
+     *
+     * @param key The key
+     * @return True if a value is present
+     */
+    public boolean isPresent(Key<?> key) {
+        return this.elements[checkedIndexOf(key)] != null;
+    }
+
+    /**
+     * Gets the element read for the key at the given index.
+     *
+     * @param index The index of the key
+     * @return The element, or null if absent
+     */
+    public Object getOrNull(int index) {
+        checkElementIndex(index, this.keys.length);
+        return this.elements[index];
+    }
+
+    /**
+     * Gets the element read for the given key.
+     *
+     * @param key The key
+     * @param <E> The type of element
+     * @return The element, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E getOrNull(Key<? extends BaseValue<E>> key) {
+        return (E) this.elements[checkedIndexOf(key)];
+    }
+
+    /**
+     * Gets the element read for the given key.
+     *
+     * @param key The key
+     * @param <E> The type of element
+     * @return The element, if available
+     */
+    public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
+        return Optional.ofNullable(getOrNull(key));
+    }
+
+    /**
+     * Gets the element read for the given key, or the default value if
+     * absent.
+     *
+     * @param key The key
+     * @param defaultValue The value to return if absent
+     * @param <E> The type of element
+     * @return The element, or the default value
+     */
+    public <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
+        final E element = getOrNull(key);
+        return element == null ? defaultValue : element;
+    }
+
+    /**
+     * Gets the int read for the given key, or the default value if absent.
+     *
+     * @param key The key
+     * @param defaultValue The value to return if absent
+     * @return The int, or the default value
+     */
+    public int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final Object element = this.elements[checkedIndexOf(key)];
+        return element == null ? defaultValue : (Integer) element;
+    }
+
+    /**
+     * Gets the long read for the given key, or the default value if absent.
+     *
+     * @param key The key
+     * @param defaultValue The value to return if absent
+     * @return The long, or the default value
+     */
+    public long getLong(Key<? extends BaseValue<Long>> key, long defaultValue) {
+        final Object element = this.elements[checkedIndexOf(key)];
+        return element == null ? defaultValue : (Long) element;
+    }
+
+    /**
+     * Gets the double read for the given key, or the default value if
+     * absent.
+     *
+     * @param key The key
+     * @param defaultValue The value to return if absent
+     * @return The double, or the default value
+     */
+    public double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final Object element = this.elements[checkedIndexOf(key)];
+        return element == null ? defaultValue : (Double) element;
+    }
+
+    /**
+     * Gets the boolean read for the given key, or the default value if
+     * absent.
+     *
+     * @param key The key
+     * @param defaultValue The value to return if absent
+     * @return The boolean, or the default value
+     */
+    public boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final Object element = this.elements[checkedIndexOf(key)];
+        return element == null ? defaultValue : (Boolean) element;
+    }
+
+    private int checkedIndexOf(Key<?> key) {
+        final int index = indexOf(checkNotNull(key, "key"));
+        if (index < 0) {
+            throw new IllegalArgumentException("Key " + key + " is not part of this lookup");
+        }
+        return index;
+    }
+
+}
@@ -31,8 +31,10 @@
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.api.data.value.ValueLookup;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -147,6 +149,73 @@
      */
     boolean supports(Class<? extends H> holderClass);
 
+    /**
+     * Reads the values of all keys of the given {@link ValueLookup} at once,
+     * replacing the elements previously held by the lookup. Keys not
+     * supported by this store are marked absent.
+     *
+     * <p>Implementations should override this to resolve how to read the
+     * keys once per batch instead of once per key. The same lookup can be
+     * passed in repeatedly to avoid allocating a result per read.</p>
+     *
+     * @param lookup The lookup to fill
+     * @return The lookup, for chaining
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default ValueLookup getAll(ValueLookup lookup) {
+        final int size = checkNotNull(lookup, "lookup").size();
+        for (int i = 0; i < size; i++) {
+            final Key key = lookup.getKey(i);
+            lookup.set(i, supports(key) ? getOrNull(key) : null);
+        }
+        return lookup;
+    }
+
+    /**
+     * Reads the values of all given keys at once, see
+     * {@link #getAll(ValueLookup)}.
+     *
+     * @param keys The keys to read
+     * @return The lookup holding the read values
+     */
+    default ValueLookup getAll(Key<?>... keys) {
+        return getAll(new ValueLookup(keys));
+    }
+
+    /**
+     * Offers all of the given elements as defined by their {@link Key}s,
+     * much like {@link #offer(Key, Object)} except all in a single batch.
+     * The values successfully offered, rejected, and replaced for all keys
+     * are merged into the single returned {@link DataTransactionResult}.
+     *
+     * <p>Implementations should override this to resolve how to write the
+     * keys once per batch instead of once per key.</p>
+     *
+     * @param values The elements to offer, by key
+     * @return The merged transaction result
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default DataTransactionResult offerAll(Map<Key<?>, ?> values) {
+        checkNotNull(values, "values");
+        if (values.isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        DataTransactionResult.Type type = DataTransactionResult.Type.SUCCESS;
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        for (Map.Entry<Key<?>, ?> entry : values.entrySet()) {
+            final DataTransactionResult result = offer((Key) entry.getKey(), entry.getValue());
+            // Every key is offered once, so the results never overlap and
+            // can be appended rather than absorbed
+            builder.success(result.getSuccessfulData());
+            builder.reject(result.getRejectedData());
+            builder.replace(result.getReplacedData());
+            if (result.getType().compareTo(type) > 0) {
+                type = result.getType();
+            }
+        }
+        return builder.result(type).build();
+    }
+
     /**
      * Applies a transformation on the provided {@link BaseValue} such that
      * the return value of {@link Function#apply(Object)} will become the end
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.effect;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3d;
 import org.spongepowered.api.effect.particle.ParticleEffect;
 import org.spongepowered.api.effect.sound.SoundType;
@@ -58,6 +61,56 @@ public interface Viewer {
      */
     void spawnParticles(ParticleEffect particleEffect, Vector3d position, int radius);
 
+    /**
+     * Spawn a {@link ParticleEffect} at many positions at once. The positions
+     * are packed into a single array as {@code x, y, z} triples, so trails
+     * and shapes don't have to create a vector for every particle. All
+     * players within a default radius around a position will see the
+     * particles at that position.
+     *
+     * <p>Implementations skip positions without players in range before
+     * sending anything, and send the remaining particles to each player in
+     * as few packets as possible. The default implementation spawns the
+     * particles one position at a time.</p>
+     *
+     * @param particleEffect The particle effect to spawn
+     * @param positions The packed positions at which to spawn the particle
+     *        effect
+     * @throws IllegalArgumentException If the length of the positions isn't
+     *         a multiple of three
+     */
+    default void spawnParticles(ParticleEffect particleEffect, double[] positions) {
+        checkNotNull(particleEffect, "particleEffect");
+        checkNotNull(positions, "positions");
+        checkArgument(positions.length % 3 == 0, "The positions must be x, y, z triples");
+        for (int i = 0; i < positions.length; i += 3) {
+            spawnParticles(particleEffect, new Vector3d(positions[i], positions[i + 1], positions[i + 2]));
+        }
+    }
+
+    /**
+     * Spawn a {@link ParticleEffect} at many positions at once. All players
+     * within a given radius around a position will see the particles at that
+     * position.
+     *
+     * @param particleEffect The particle effect to spawn
+     * @param positions The packed positions at which to spawn the particle
+     *        effect
+     * @param radius The radius around the positions where the particles can
+     *        be seen by players
+     * @throws IllegalArgumentException If the length of the positions isn't
+     *         a multiple of three
+     * @see #spawnParticles(ParticleEffect, double[])
+     */
+    default void spawnParticles(ParticleEffect particleEffect, double[] positions, int radius) {
+        checkNotNull(particleEffect, "particleEffect");
+        checkNotNull(positions, "positions");
+        checkArgument(positions.length % 3 == 0, "The positions must be x, y, z triples");
+        for (int i = 0; i < positions.length; i += 3) {
+            spawnParticles(particleEffect, new Vector3d(positions[i], positions[i + 1], positions[i + 2]), radius);
+        }
+    }
+
     /**
      * Plays the given {@link SoundType} at the given position. All
      * players within range will hear the sound with the given volume.
@@ -94,6 +147,32 @@ public interface Viewer {
      */
     void playSound(SoundType sound, Vector3d position, double volume, double pitch, double minVolume);
 
+    /**
+     * Plays the given {@link SoundType} at many positions at once, packed
+     * into a single array as {@code x, y, z} triples. All players within range
+     * of a position will hear the sound played there.
+     *
+     * <p>Like {@link #spawnParticles(ParticleEffect, double[])},
+     * implementations skip positions no player can hear, and the default
+     * implementation plays the sound one position at a time.</p>
+     *
+     * @param sound The sound to play
+     * @param positions The packed positions to play the sound
+     * @param volume The volume to play the sound at, usually between 0 and 2
+     * @param pitch The modulation of the sound to play at, usually between 0
+     *        and 2
+     * @throws IllegalArgumentException If the length of the positions isn't
+     *         a multiple of three
+     */
+    default void playSound(SoundType sound, double[] positions, double volume, double pitch) {
+        checkNotNull(sound, "sound");
+        checkNotNull(positions, "positions");
+        checkArgument(positions.length % 3 == 0, "The positions must be x, y, z triples");
+        for (int i = 0; i < positions.length; i += 3) {
+            playSound(sound, new Vector3d(positions[i], positions[i + 1], positions[i + 2]), volume, pitch);
+        }
+    }
+
     /**
      * Sends a {@link Title} to this player.
      *
@@ -396,13 +396,13 @@ default boolean damage(double damage, DamageSource damageSource) {
     /**
      * Gets the nearby entities within the desired distance.
      *
-     * @see World#getEntities(Predicate)
+     * @see World#getNearbyEntities(Vector3d, double)
      * @param distance The distance
      * @return The collection of nearby entities
      */
     default Collection<Entity> getNearbyEntities(double distance) {
         checkArgument(distance > 0, "Distance must be above zero!");
-        return getNearbyEntities(entity -> entity.getTransform().getPosition().distance(this.getTransform().getPosition()) <= distance);
+        return getWorld().getNearbyEntities(getLocation().getPosition(), distance);
     }
 
     /**
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.Nameable;
 import org.spongepowered.api.data.Property;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
 import org.spongepowered.api.text.translation.Translation;
@@ -221,6 +222,17 @@ public interface Inventory extends Iterable<Inventory>, Nameable {
      */
     InventoryTransactionResult set(ItemStack stack);
 
+    /**
+     * Creates a new transaction of operations on this inventory and its
+     * children. The operations are only performed when
+     * {@link InventoryTransaction#commit()} is called, throwing a single
+     * event for all of them and resynchronizing viewers once.
+     *
+     * @param cause The cause to use for the event
+     * @return The new transaction
+     */
+    InventoryTransaction newTransaction(Cause cause);
+
     /**
      * Clears this inventory if it is clearable.
      */
@@ -238,6 +250,10 @@ public interface Inventory extends Iterable<Inventory>, Nameable {
      * Returns the number total number of individual <em>items</em> in this
      * inventory.
      *
+     * <p>Implementations of large inventories should keep a count, for
+     * example with an {@link ItemTypeIndex}, rather than walking
+     * {@link #slots()} on every call.</p>
+     *
      * @return the total number of items in the inventory
      */
     int totalItems();
@@ -274,6 +290,9 @@ public interface Inventory extends Iterable<Inventory>, Nameable {
      * ItemType. This is equivalent to calling <code>!inv.query(stack)
      * .isEmpty();</code>
      *
+     * <p>Like {@link #totalItems()}, this should be answered from an index
+     * of the contents rather than by walking {@link #slots()}.</p>
+     *
      * @param type The type to search for
      * @return True if at least one stack in this list has the given type
      */
@@ -451,4 +470,19 @@ public interface Inventory extends Iterable<Inventory>, Nameable {
      */
     <T extends Inventory> T query(Object... args);
 
+    /**
+     * Query this inventory with a precompiled {@link InventoryQuery}. This is
+     * the same as calling {@link #query(Object...)} with the operands of the
+     * query, but allows implementations to cache the slots matched by the
+     * query for the current shape of this inventory.
+     *
+     * @param query The query
+     * @param <T> expected inventory type, specified as generic to allow easy
+     *      pseudo-duck-typing
+     * @return the query result
+     */
+    default <T extends Inventory> T query(InventoryQuery query) {
+        return query(query.getOperands().toArray());
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.item.ItemType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A query plan for {@link Inventory#query(InventoryQuery)}: the operands of
+ * an {@link Inventory#query(Object...)} call, sorted by kind once instead of
+ * on every query.
+ *
+ * <p>A query is immutable and compared by identity, so it is meant to be
+ * created once, for example in a static field, and run again and again.
+ * Implementations can cache the slots it matches per query and inventory
+ * shape, and only need to check the contents of those slots afterwards.</p>
+ */
+public final class InventoryQuery {
+
+    private final ImmutableList<Object> operands;
+    private final ImmutableList<Class<?>> types;
+    private final ImmutableSet<ItemType> itemTypes;
+    private final ImmutableList<InventoryProperty<?, ?>> properties;
+    private final ImmutableList<Object> otherOperands;
+
+    private InventoryQuery(ImmutableList<Object> operands) {
+        this.operands = operands;
+        final ImmutableList.Builder<Class<?>> types = ImmutableList.builder();
+        final ImmutableSet.Builder<ItemType> itemTypes = ImmutableSet.builder();
+        final ImmutableList.Builder<InventoryProperty<?, ?>> properties = ImmutableList.builder();
+        final ImmutableList.Builder<Object> otherOperands = ImmutableList.builder();
+        for (Object operand : operands) {
+            if (operand instanceof Class) {
+                types.add((Class<?>) operand);
+            } else if (operand instanceof ItemType) {
+                itemTypes.add((ItemType) operand);
+            } else if (operand instanceof InventoryProperty) {
+                properties.add((InventoryProperty<?, ?>) operand);
+            } else {
+                otherOperands.add(operand);
+            }
+        }
+        this.types = types.build();
+        this.itemTypes = itemTypes.build();
+        this.properties = properties.build();
+        this.otherOperands = otherOperands.build();
+    }
+
+    /**
+     * Creates a query matching inventories matching any of the given
+     * operands, like {@link Inventory#query(Object...)}.
+     *
+     * @param operands The operands of the query
+     * @return The query
+     */
+    public static InventoryQuery of(Object... operands) {
+        checkNotNull(operands, "operands");
+        checkArgument(operands.length > 0, "At least one operand is required");
+        return new InventoryQuery(ImmutableList.copyOf(operands));
+    }
+
+    /**
+     * Gets all operands of this query, in the order they were given.
+     *
+     * @return The operands
+     */
+    public List<Object> getOperands() {
+        return this.operands;
+    }
+
+    /**
+     * Gets the inventory type operands, see
+     * {@link Inventory#query(Class...)}.
+     *
+     * @return The inventory types
+     */
+    public List<Class<?>> getTypes() {
+        return this.types;
+    }
+
+    /**
+     * Gets the item type operands, see {@link Inventory#query(ItemType...)}.
+     *
+     * @return The item types
+     */
+    public Set<ItemType> getItemTypes() {
+        return this.itemTypes;
+    }
+
+    /**
+     * Gets the property operands, see
+     * {@link Inventory#query(InventoryProperty...)}.
+     *
+     * @return The properties
+     */
+    public List<InventoryProperty<?, ?>> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * Gets the operands which are neither inventory types, item types nor
+     * properties, such as stacks and names.
+     *
+     * @return The other operands
+     */
+    public List<Object> getOtherOperands() {
+        return this.otherOperands;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory;
+
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
+import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
+import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
+
+import java.util.List;
+
+/**
+ * A set of operations on an {@link Inventory} and its children which are
+ * performed together. Operations are queued without touching the
+ * inventory, and are only performed in order when {@link #commit()} is
+ * called.
+ *
+ * <p>On commit, a single {@link ChangeInventoryEvent} is thrown with a
+ * {@link SlotTransaction} for every changed slot, and viewers of the
+ * inventory are resynchronized once, instead of after every operation. This
+ * makes transactions the preferred way of moving many stacks at once.</p>
+ *
+ * @see Inventory#newTransaction(Cause)
+ */
+public interface InventoryTransaction {
+
+    /**
+     * Gets the inventory the operations are performed on.
+     *
+     * @return The inventory
+     */
+    Inventory getInventory();
+
+    /**
+     * Gets the cause used for the event thrown when the transaction is
+     * committed.
+     *
+     * @return The cause
+     */
+    Cause getCause();
+
+    /**
+     * Queues offering the stack to the inventory, see
+     * {@link Inventory#offer(ItemStack)}.
+     *
+     * @param stack The stack to offer
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    default InventoryTransaction offer(ItemStack stack) {
+        return offer(getInventory(), stack);
+    }
+
+    /**
+     * Queues offering the stack to the given child of the inventory, see
+     * {@link Inventory#offer(ItemStack)}.
+     *
+     * @param target The inventory or child inventory to offer to
+     * @param stack The stack to offer
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    InventoryTransaction offer(Inventory target, ItemStack stack);
+
+    /**
+     * Queues setting the stack of the given child of the inventory, see
+     * {@link Inventory#set(ItemStack)}.
+     *
+     * @param target The inventory or child inventory to set
+     * @param stack The stack to set
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    InventoryTransaction set(Inventory target, ItemStack stack);
+
+    /**
+     * Queues polling the first available stack of the given child of the
+     * inventory, see {@link Inventory#poll()}. The polled stack is available
+     * from {@link #getPolledItems()} once committed.
+     *
+     * @param source The inventory or child inventory to poll
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    InventoryTransaction poll(Inventory source);
+
+    /**
+     * Queues polling up to the given number of items of the first available
+     * stack of the given child of the inventory, see
+     * {@link Inventory#poll(int)}. The polled stack is available from
+     * {@link #getPolledItems()} once committed.
+     *
+     * @param source The inventory or child inventory to poll
+     * @param limit The maximum number of items to poll
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    InventoryTransaction poll(Inventory source, int limit);
+
+    /**
+     * Gets the number of queued operations.
+     *
+     * @return The number of operations
+     */
+    int size();
+
+    /**
+     * Gets whether this transaction was already committed. A transaction can
+     * only be committed once.
+     *
+     * @return Whether or not the transaction was committed
+     */
+    boolean isCommitted();
+
+    /**
+     * Gets the stacks removed by the queued polls, in the order of the polls.
+     * Polls which found no stack are left out.
+     *
+     * @return The polled stacks
+     * @throws IllegalStateException If this transaction wasn't committed yet
+     */
+    List<ItemStack> getPolledItems();
+
+    /**
+     * Performs all queued operations in order. The result merges the results
+     * of all operations: it holds every rejected and replaced item, and is
+     * only successful if every operation succeeded, otherwise it has the
+     * type of the first operation that didn't.
+     *
+     * @return The merged result of the operations
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    InventoryTransactionResult commit();
+
+}
@@ -0,0 +1,241 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.item.ItemType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the contents of an {@link Inventory}, by slot number, which
+ * keeps a bitmap of the slots holding each {@link ItemType} along with the
+ * item counts. Inventories update the index whenever a slot changes, and
+ * can then answer {@link Inventory#contains(ItemType)},
+ * {@link Inventory#totalItems()} and {@link Inventory#query(ItemType...)}
+ * without walking {@link Inventory#slots()}.
+ *
+ * <p>This index is not thread safe.</p>
+ */
+public final class ItemTypeIndex {
+
+    private final ItemType[] types;
+    private final int[] quantities;
+    private final Map<ItemType, Entry> entries = new HashMap<>();
+    private int totalItems;
+    private int size;
+
+    /**
+     * Creates a new index of an empty inventory.
+     *
+     * @param capacity The number of slots of the inventory
+     */
+    public ItemTypeIndex(int capacity) {
+        checkArgument(capacity >= 0, "capacity must not be negative");
+        this.types = new ItemType[capacity];
+        this.quantities = new int[capacity];
+    }
+
+    /**
+     * Gets the number of slots of the indexed inventory.
+     *
+     * @return The number of slots
+     */
+    public int capacity() {
+        return this.types.length;
+    }
+
+    /**
+     * Updates the index for the stack now held by the given slot.
+     *
+     * @param slot The slot number
+     * @param stack The stack in the slot, or null if the slot is empty
+     */
+    public void set(int slot, @Nullable ItemStack stack) {
+        if (stack == null) {
+            set(slot, null, 0);
+        } else {
+            set(slot, stack.getItem(), stack.getQuantity());
+        }
+    }
+
+    /**
+     * Updates the index for the items now held by the given slot.
+     *
+     * @param slot The slot number
+     * @param type The type of the items, or null if the slot is empty
+     * @param quantity The number of items
+     */
+    public void set(int slot, @Nullable ItemType type, int quantity) {
+        checkElementIndex(slot, this.types.length);
+        checkArgument(quantity >= 0, "quantity must not be negative");
+        if (type == null || quantity == 0) {
+            type = null;
+            quantity = 0;
+        }
+        final ItemType previous = this.types[slot];
+        final int previousQuantity = this.quantities[slot];
+        if (previous != null) {
+            final Entry entry = this.entries.get(previous);
+            entry.quantity -= previousQuantity;
+            if (previous != type) {
+                entry.slots.clear(slot);
+                if (entry.slots.isEmpty()) {
+                    this.entries.remove(previous);
+                }
+            }
+            this.size--;
+        }
+        if (type != null) {
+            final Entry entry = this.entries.computeIfAbsent(type, key -> new Entry());
+            entry.slots.set(slot);
+            entry.quantity += quantity;
+            this.size++;
+        }
+        this.types[slot] = type;
+        this.quantities[slot] = quantity;
+        this.totalItems += quantity - previousQuantity;
+    }
+
+    /**
+     * Marks all slots as empty.
+     */
+    public void clear() {
+        Arrays.fill(this.types, null);
+        Arrays.fill(this.quantities, 0);
+        this.entries.clear();
+        this.totalItems = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Gets whether any slot holds items of the given type.
+     *
+     * @param type The item type
+     * @return True if the type is present
+     */
+    public boolean contains(ItemType type) {
+        return this.entries.containsKey(checkNotNull(type, "type"));
+    }
+
+    /**
+     * Gets the type of the items held by the given slot.
+     *
+     * @param slot The slot number
+     * @return The item type, or null if the slot is empty
+     */
+    @Nullable
+    public ItemType getType(int slot) {
+        checkElementIndex(slot, this.types.length);
+        return this.types[slot];
+    }
+
+    /**
+     * Gets the number of items held by the given slot.
+     *
+     * @param slot The slot number
+     * @return The number of items
+     */
+    public int getQuantity(int slot) {
+        checkElementIndex(slot, this.types.length);
+        return this.quantities[slot];
+    }
+
+    /**
+     * Gets the number of non empty slots.
+     *
+     * @return The number of stacks
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of items in all slots.
+     *
+     * @return The number of items
+     */
+    public int totalItems() {
+        return this.totalItems;
+    }
+
+    /**
+     * Gets the number of items of the given type in all slots.
+     *
+     * @param type The item type
+     * @return The number of items
+     */
+    public int totalItems(ItemType type) {
+        final Entry entry = this.entries.get(checkNotNull(type, "type"));
+        return entry == null ? 0 : entry.quantity;
+    }
+
+    /**
+     * Gets the first slot holding items of the given type at or after the
+     * given slot, which allows iterating the slots without allocating:
+     * <pre>
+     * {@code
+     * for (int i = index.nextSlot(type, 0); i >= 0; i = index.nextSlot(type, i + 1)) {
+     *     ...
+     * }
+     * }
+     * </pre>
+     *
+     * @param type The item type
+     * @param fromSlot The slot number to start at
+     * @return The slot number, or -1 if there is none
+     */
+    public int nextSlot(ItemType type, int fromSlot) {
+        final Entry entry = this.entries.get(checkNotNull(type, "type"));
+        return entry == null ? -1 : entry.slots.nextSetBit(fromSlot);
+    }
+
+    /**
+     * Gets the slots holding items of the given type.
+     *
+     * @param type The item type
+     * @return A copy of the bitmap of the slot numbers
+     */
+    public BitSet getSlots(ItemType type) {
+        final Entry entry = this.entries.get(checkNotNull(type, "type"));
+        return entry == null ? new BitSet() : (BitSet) entry.slots.clone();
+    }
+
+    private static final class Entry {
+
+        final BitSet slots = new BitSet();
+        int quantity;
+
+    }
+
+}
@@ -178,6 +178,35 @@ public Builder replace(ItemStack... itemStacks) {
             return this;
         }
 
+        /**
+         * Merges the given result into this builder. The rejected and
+         * replaced items of the result are added, and its type becomes the
+         * type of this builder unless this builder already has a type other
+         * than {@link Type#SUCCESS}.
+         *
+         * @param result The result to merge
+         * @return This builder, for chaining
+         */
+        public Builder absorbResult(InventoryTransactionResult result) {
+            checkNotNull(result, "result");
+            if (this.resultType == null || this.resultType == Type.SUCCESS) {
+                this.resultType = result.type;
+            }
+            if (!result.rejected.isEmpty()) {
+                if (this.rejected == null) {
+                    this.rejected = new ArrayList<>();
+                }
+                this.rejected.addAll(result.rejected);
+            }
+            if (!result.replaced.isEmpty()) {
+                if (this.replaced == null) {
+                    this.replaced = new ArrayList<>();
+                }
+                this.replaced.addAll(result.replaced);
+            }
+            return this;
+        }
+
         public InventoryTransactionResult build() {
             checkState(this.resultType != null, "ResultType cannot be null!");
             return new InventoryTransactionResult(this);
@@ -0,0 +1,203 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.GameRegistry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable, indexed view of all registered {@link CatalogType}s of one
+ * catalog class at some point in time, see
+ * {@link GameRegistry#getSnapshot(Class)}.
+ *
+ * <p>Types are looked up by their case insensitive id, and are numbered by
+ * ordinals in the order they were registered. A snapshot never changes, so
+ * it can be queried from any thread without locking. Registering new types
+ * publishes a new snapshot, in which the types already present keep their
+ * ordinals.</p>
+ *
+ * @param <T> The type of catalog type
+ */
+public final class CatalogSnapshot<T extends CatalogType> {
+
+    private final Class<T> catalogClass;
+    private final ImmutableList<T> types;
+    private final ImmutableList<String> ids;
+    private final ImmutableMap<String, T> byId;
+    private final Map<T, Integer> ordinals;
+
+    private CatalogSnapshot(Class<T> catalogClass, Iterable<? extends T> candidates) {
+        this.catalogClass = catalogClass;
+        final ImmutableList.Builder<T> types = ImmutableList.builder();
+        final ImmutableList.Builder<String> ids = ImmutableList.builder();
+        final Map<String, T> byId = new HashMap<>();
+        final Map<T, Integer> ordinals = new IdentityHashMap<>();
+        for (T type : candidates) {
+            checkNotNull(type, "type");
+            // The same instance may be listed again, for example under an alias
+            if (ordinals.containsKey(type)) {
+                continue;
+            }
+            // The type registered first keeps an id that differs only in case
+            if (byId.putIfAbsent(type.getId().toLowerCase(Locale.ENGLISH), type) != null) {
+                continue;
+            }
+            ordinals.put(type, ordinals.size());
+            types.add(type);
+            ids.add(type.getId());
+        }
+        this.types = types.build();
+        this.ids = ids.build();
+        this.byId = ImmutableMap.copyOf(byId);
+        // Never modified after construction, the final field publishes it safely
+        this.ordinals = Collections.unmodifiableMap(ordinals);
+    }
+
+    /**
+     * Creates a snapshot of the given types, numbered in iteration order.
+     *
+     * <p>A type that is listed more than once only appears at its first
+     * position. A type whose id only differs in case from the id of an
+     * earlier type is left out, the type listed first wins.</p>
+     *
+     * @param catalogClass The catalog class
+     * @param types The registered types
+     * @param <T> The type of catalog type
+     * @return The snapshot
+     */
+    public static <T extends CatalogType> CatalogSnapshot<T> of(Class<T> catalogClass, Iterable<? extends T> types) {
+        return new CatalogSnapshot<>(checkNotNull(catalogClass, "catalogClass"), checkNotNull(types, "types"));
+    }
+
+    /**
+     * Creates a new snapshot holding the types of this snapshot followed by
+     * the given types. The types of this snapshot keep their ordinals.
+     *
+     * <p>Types that are already part of this snapshot, or whose id only
+     * differs in case from the id of a type in it, are left out.</p>
+     *
+     * @param added The types to add
+     * @return The new snapshot
+     */
+    public CatalogSnapshot<T> with(Iterable<? extends T> added) {
+        return new CatalogSnapshot<>(this.catalogClass, Iterables.concat(this.types, checkNotNull(added, "added")));
+    }
+
+    /**
+     * Gets the catalog class of the types in this snapshot.
+     *
+     * @return The catalog class
+     */
+    public Class<T> getCatalogClass() {
+        return this.catalogClass;
+    }
+
+    /**
+     * Gets the type with the given case insensitive id.
+     *
+     * @param id The id of the type
+     * @return The type, if available
+     */
+    public Optional<T> getType(String id) {
+        return Optional.ofNullable(this.byId.get(checkNotNull(id, "id").toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Gets the type with the given ordinal.
+     *
+     * @param ordinal The ordinal of the type
+     * @return The type
+     * @throws IndexOutOfBoundsException If no type has the ordinal
+     */
+    public T getType(int ordinal) {
+        return this.types.get(ordinal);
+    }
+
+    /**
+     * Gets the ordinal of the given type in this snapshot.
+     *
+     * @param type The type
+     * @return The ordinal of the type
+     * @throws IllegalArgumentException If the type isn't in this snapshot
+     */
+    public int getOrdinal(T type) {
+        final Integer ordinal = this.ordinals.get(checkNotNull(type, "type"));
+        checkArgument(ordinal != null, "%s is not part of this snapshot", type);
+        return ordinal;
+    }
+
+    /**
+     * Gets all types in this snapshot, ordered by ordinal. The same list is
+     * returned by every call.
+     *
+     * @return The types
+     */
+    public List<T> getAll() {
+        return this.types;
+    }
+
+    /**
+     * Gets the ids of all types in this snapshot, ordered by ordinal. The
+     * same list is returned by every call.
+     *
+     * @return The ids
+     */
+    public List<String> getIds() {
+        return this.ids;
+    }
+
+    /**
+     * Gets the number of types in this snapshot.
+     *
+     * @return The number of types
+     */
+    public int size() {
+        return this.types.size();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("catalogClass", this.catalogClass.getName())
+                .add("size", this.types.size())
+                .toString();
+    }
+
+}
@@ -176,6 +176,15 @@ default void clearSlot(DisplaySlot slot) {
      */
     void registerTeam(Team team) throws IllegalArgumentException;
 
+    /**
+     * Creates a new transaction for changing many scores, team members and
+     * display names of this scoreboard at once. Players viewing this
+     * scoreboard receive the committed changes as a single update.
+     *
+     * @return The new transaction
+     */
+    ScoreboardTransaction newTransaction();
+
     /**
      * Gets all the {@link Team}s on this scoreboard.
      *
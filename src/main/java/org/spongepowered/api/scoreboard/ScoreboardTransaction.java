@@ -0,0 +1,141 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scoreboard;
+
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.scoreboard.objective.Objective;
+import org.spongepowered.api.text.Text;
+
+/**
+ * A set of changes to the {@link Objective}s and {@link Team}s of a
+ * {@link Scoreboard} which are applied together.
+ *
+ * <p>Changes are recorded without touching the scoreboard. Repeated changes
+ * to the same score, member or display name replace each other, so only the
+ * last one is kept. On {@link #commit()}, changes which would leave the
+ * scoreboard as it is are dropped.</p>
+ *
+ * <p>Implementations send the committed changes to each {@link Player}
+ * viewing the scoreboard as a single update containing only what changed
+ * for that player, and merge the updates of transactions committed during
+ * the same tick.</p>
+ *
+ * @see Scoreboard#newTransaction()
+ */
+public interface ScoreboardTransaction {
+
+    /**
+     * Gets the scoreboard the changes are applied to.
+     *
+     * @return The scoreboard
+     */
+    Scoreboard getScoreboard();
+
+    /**
+     * Sets the score with the given name of the objective, creating the score
+     * if it doesn't exist yet.
+     *
+     * @param objective The objective
+     * @param name The name of the score
+     * @param score The new value of the score
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction setScore(Objective objective, Text name, int score);
+
+    /**
+     * Removes the score with the given name from the objective.
+     *
+     * @param objective The objective
+     * @param name The name of the score
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction removeScore(Objective objective, Text name);
+
+    /**
+     * Sets the display name of the objective.
+     *
+     * @param objective The objective
+     * @param displayName The new display name
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction setDisplayName(Objective objective, Text displayName);
+
+    /**
+     * Sets the display name of the team.
+     *
+     * @param team The team
+     * @param displayName The new display name
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction setDisplayName(Team team, Text displayName);
+
+    /**
+     * Adds the member to the team.
+     *
+     * @param team The team
+     * @param member The member to add
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction addMember(Team team, Text member);
+
+    /**
+     * Removes the member from the team.
+     *
+     * @param team The team
+     * @param member The member to remove
+     * @return This transaction, for chaining
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    ScoreboardTransaction removeMember(Team team, Text member);
+
+    /**
+     * Gets the number of recorded changes, after replacing repeated changes.
+     *
+     * @return The number of changes
+     */
+    int size();
+
+    /**
+     * Gets whether this transaction was already committed. A transaction can
+     * only be committed once.
+     *
+     * @return Whether or not the transaction was committed
+     */
+    boolean isCommitted();
+
+    /**
+     * Applies the recorded changes to the scoreboard.
+     *
+     * @return The number of changes which modified the scoreboard
+     * @throws IllegalStateException If this transaction was already committed
+     */
+    int commit();
+
+}
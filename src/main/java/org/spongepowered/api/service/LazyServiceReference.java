@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ServiceReference} resolved from a {@link ServiceManager} on first
+ * use, and again whenever the supplied manager changes.
+ */
+final class LazyServiceReference<T> implements ServiceReference<T> {
+
+    private final Class<T> service;
+    private final Supplier<ServiceManager> managerSupplier;
+    @Nullable private volatile Bound<T> bound;
+
+    LazyServiceReference(Class<T> service, Supplier<ServiceManager> managerSupplier) {
+        this.service = checkNotNull(service, "service");
+        this.managerSupplier = managerSupplier;
+    }
+
+    private ServiceReference<T> resolve() {
+        final ServiceManager manager = this.managerSupplier.get();
+        Bound<T> bound = this.bound;
+        if (bound == null || bound.manager != manager) {
+            this.bound = bound = new Bound<>(manager, manager.getReference(this.service));
+        }
+        return bound.reference;
+    }
+
+    @Override
+    public Class<T> getService() {
+        return this.service;
+    }
+
+    @Override
+    public Optional<T> get() {
+        return resolve().get();
+    }
+
+    @Override
+    public T getUnchecked() throws ProvisioningException {
+        return resolve().getUnchecked();
+    }
+
+    private static final class Bound<T> {
+
+        final ServiceManager manager;
+        final ServiceReference<T> reference;
+
+        Bound(ServiceManager manager, ServiceReference<T> reference) {
+            this.manager = manager;
+            this.reference = reference;
+        }
+
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.service;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.util.Optional;
 
 /**
@@ -69,6 +71,35 @@ public interface ServiceManager {
      */
     <T> Optional<T> provide(Class<T> service);
 
+    /**
+     * Gets a {@link ServiceReference} to the provider of the given service.
+     * The reference follows the provider as it is replaced through
+     * {@link #setProvider(Object, Class, Object)}, and may be obtained
+     * before any provider is registered.
+     *
+     * <p>Implementations should return a reference that is updated when the
+     * provider changes, so that reading it is a single volatile read. The
+     * default implementation looks the provider up on every read.</p>
+     *
+     * @param service The service
+     * @param <T> The type of service
+     * @return The reference to the service
+     */
+    default <T> ServiceReference<T> getReference(Class<T> service) {
+        checkNotNull(service, "service");
+        return new ServiceReference<T>() {
+            @Override
+            public Class<T> getService() {
+                return service;
+            }
+
+            @Override
+            public Optional<T> get() {
+                return provide(service);
+            }
+        };
+    }
+
     /**
      * Gets the {@link ProviderRegistration} for the given service, if available.
      *
@@ -0,0 +1,93 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service;
+
+import org.spongepowered.api.Sponge;
+
+import java.util.Optional;
+
+/**
+ * A handle to the provider of a service, obtained once through
+ * {@link ServiceManager#getReference(Class)} and kept, for example in a
+ * field. The handle follows the provider when it is replaced with
+ * {@link ServiceManager#setProvider(Object, Class, Object)}, so reading the
+ * provider doesn't look the service up again.
+ *
+ * @param <T> The type of service
+ */
+public interface ServiceReference<T> {
+
+    /**
+     * Creates a reference to a service of the {@link ServiceManager} of the
+     * game, which is resolved on first use. This allows the reference to be
+     * stored in a static field before the game is available.
+     *
+     * @param service The service
+     * @param <T> The type of service
+     * @return The reference
+     */
+    static <T> ServiceReference<T> lazy(Class<T> service) {
+        return new LazyServiceReference<>(service, Sponge::getServiceManager);
+    }
+
+    /**
+     * Gets the service of this reference.
+     *
+     * @return The service
+     */
+    Class<T> getService();
+
+    /**
+     * Gets the current provider of the service, if one is available.
+     *
+     * @return The provider, if available
+     */
+    Optional<T> get();
+
+    /**
+     * Gets the current provider of the service, raising an unchecked
+     * exception if a provider does not exist.
+     *
+     * @return The provider
+     * @throws ProvisioningException Thrown if a provider does not exist
+     */
+    default T getUnchecked() throws ProvisioningException {
+        final Optional<T> provider = get();
+        if (!provider.isPresent()) {
+            throw new ProvisioningException("No provider is registered for the service '" + getService().getName() + "'", getService());
+        }
+        return provider.get();
+    }
+
+    /**
+     * Gets whether a provider is currently available for the service.
+     *
+     * @return True if there is a provider for the service
+     */
+    default boolean isPresent() {
+        return get().isPresent();
+    }
+
+}
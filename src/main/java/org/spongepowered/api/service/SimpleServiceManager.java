@@ -53,6 +53,7 @@ public class SimpleServiceManager implements ServiceManager {
 
     private final ConcurrentMap<Class<?>, ProviderRegistration<?>> providers =
             new MapMaker().concurrencyLevel(3).makeMap();
+    private final ConcurrentMap<Class<?>, Reference<?>> references = new MapMaker().concurrencyLevel(3).makeMap();
     private final PluginManager pluginManager;
 
     /**
@@ -82,6 +83,10 @@ public <T> void setProvider(Object plugin, Class<T> service, T provider) {
 
         PluginContainer container = containerOptional.get();
         ProviderRegistration<?> oldProvider = this.providers.put(service, new Provider<>(container, service, provider));
+        final Reference<?> reference = this.references.get(service);
+        if (reference != null) {
+            reference.refresh();
+        }
         Sponge.getEventManager().post(SpongeEventFactory.createChangeServiceProviderEvent(Cause.source(container).build(),
                 this.providers.get(service), Optional.ofNullable(oldProvider)));
     }
@@ -95,6 +100,19 @@ public <T> Optional<T> provide(Class<T> service) {
         return provider != null ? Optional.of(provider.getProvider()) : Optional.empty();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> ServiceReference<T> getReference(Class<T> service) {
+        checkNotNull(service, "service");
+        Reference<T> reference = (Reference<T>) this.references.get(service);
+        if (reference == null) {
+            reference = (Reference<T>) this.references.computeIfAbsent(service, key -> new Reference<>(service));
+            // A provider may have been set while the reference was created
+            reference.refresh();
+        }
+        return reference;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<ProviderRegistration<T>> getRegistration(Class<T> service) {
@@ -113,6 +131,31 @@ public <T> T provideUnchecked(Class<T> service) throws ProvisioningException {
         }
     }
 
+    private final class Reference<T> implements ServiceReference<T> {
+
+        private final Class<T> service;
+        private volatile Optional<T> provider = Optional.empty();
+
+        Reference(Class<T> service) {
+            this.service = service;
+        }
+
+        synchronized void refresh() {
+            this.provider = provide(this.service);
+        }
+
+        @Override
+        public Class<T> getService() {
+            return this.service;
+        }
+
+        @Override
+        public Optional<T> get() {
+            return this.provider;
+        }
+
+    }
+
     private static class Provider<T> implements ProviderRegistration<T> {
 
         @SuppressWarnings("unused")
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.api.service.pagination;
 
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
@@ -48,7 +47,7 @@ public interface PaginationList {
      * @return The new builder
      */
     static Builder builder() {
-        return Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder();
+        return PaginationServiceHolder.SERVICE.getUnchecked().builder();
     }
 
     /**
@@ -0,0 +1,287 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.TextTemplate.Arg;
+import org.spongepowered.api.text.serializer.TextSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a pre-processed form of a {@link TextTemplate} which resolves
+ * its {@link Arg}s to integer slots and prepares its constant elements ahead
+ * of time. The result of {@link #apply(TextElement...)} is equal to the result
+ * of {@link TextTemplate#apply(Map)} for the same parameters.
+ *
+ * <p>Slots are numbered in the order in which each distinct argument name
+ * first occurs in the template, see {@link #getArgumentNames()}.</p>
+ *
+ * <p>Instances are immutable and may be shared between threads. They can be
+ * obtained through {@link TextTemplate#compile()}.</p>
+ */
+public final class CompiledTextTemplate {
+
+    private static final TextElement[] NO_PARAMS = new TextElement[0];
+
+    private final TextTemplate template;
+    private final ImmutableList<String> argumentNames;
+
+    /*
+     * Each element of the template is represented by one index in the
+     * following arrays. Constant texts (including plain strings, which are
+     * converted once) are stored in texts, other constant elements in
+     * elements and arguments in slots/args. The slot of a constant element is
+     * always -1.
+     */
+    private final Text[] texts;
+    private final TextElement[] elements;
+    private final int[] slots;
+    private final Arg[] args;
+    private final Text[] defaults;
+
+    CompiledTextTemplate(TextTemplate template) {
+        this.template = template;
+        int size = template.elements.size();
+        this.texts = new Text[size];
+        this.elements = new TextElement[size];
+        this.slots = new int[size];
+        this.args = new Arg[size];
+        this.defaults = new Text[size];
+
+        Map<String, Integer> slotMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Object element = template.elements.get(i);
+            this.slots[i] = -1;
+            if (element instanceof Arg) {
+                Arg arg = (Arg) element;
+                Integer slot = slotMap.get(arg.name);
+                if (slot == null) {
+                    slot = slotMap.size();
+                    slotMap.put(arg.name, slot);
+                }
+                this.slots[i] = slot;
+                this.args[i] = arg;
+                if (arg.defaultValue != null) {
+                    this.defaults[i] = wrap(arg.defaultValue, arg);
+                }
+            } else if (element instanceof Text) {
+                this.texts[i] = (Text) element;
+            } else if (element instanceof TextElement) {
+                this.elements[i] = (TextElement) element;
+            } else {
+                this.texts[i] = Text.of(element.toString());
+            }
+        }
+        this.argumentNames = ImmutableList.copyOf(slotMap.keySet());
+    }
+
+    /**
+     * Returns the {@link TextTemplate} this template was compiled from.
+     *
+     * @return The source template
+     */
+    public TextTemplate getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Returns the names of the arguments of this template, indexed by their
+     * slot.
+     *
+     * @return The argument names
+     */
+    public List<String> getArgumentNames() {
+        return this.argumentNames;
+    }
+
+    /**
+     * Returns the slot of the argument with the specified name, or {@code -1}
+     * if the template contains no argument with that name.
+     *
+     * @param name The name of the argument
+     * @return The slot of the argument, or -1 if not present
+     */
+    public int indexOf(String name) {
+        return this.argumentNames.indexOf(checkNotNull(name, "name"));
+    }
+
+    /**
+     * Applies an empty set of parameters to this template and returns the
+     * result in a {@link Text.Builder}.
+     *
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     */
+    public Text.Builder apply() {
+        return apply(NO_PARAMS);
+    }
+
+    /**
+     * Applies the specified parameters to this template and returns the
+     * result in a {@link Text.Builder}. The parameter at index {@code i} is
+     * used for the argument in slot {@code i}. Missing trailing parameters
+     * and {@code null} parameters are treated like a missing entry in
+     * {@link TextTemplate#apply(Map)}.
+     *
+     * @param params Parameters to apply, indexed by slot
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     */
+    public Text.Builder apply(TextElement... params) {
+        checkNotNull(params, "params");
+        checkArgument(params.length <= this.argumentNames.size(), "Too many parameters: expected at most %s, got %s",
+                this.argumentNames.size(), params.length);
+        // Note: The builder is initialized as null to avoid unnecessary Text nesting
+        Text.Builder builder = null;
+        for (int i = 0; i < this.slots.length; i++) {
+            int slot = this.slots[i];
+            if (slot != -1) {
+                TextElement param = slot < params.length ? params[slot] : null;
+                Text value;
+                if (param != null) {
+                    value = wrap(param, this.args[i]);
+                } else {
+                    this.args[i].checkOptional();
+                    value = this.defaults[i];
+                    if (value == null) {
+                        continue;
+                    }
+                }
+                if (builder == null) {
+                    builder = Text.builder();
+                }
+                builder.append(value);
+            } else if (this.texts[i] != null) {
+                if (builder == null) {
+                    builder = this.texts[i].toBuilder();
+                } else {
+                    builder.append(this.texts[i]);
+                }
+            } else {
+                if (builder == null) {
+                    builder = Text.builder();
+                }
+                this.elements[i].applyTo(builder);
+            }
+        }
+        return builder == null ? Text.builder() : builder;
+    }
+
+    /**
+     * Applies the specified named parameters to this template and returns the
+     * result in a {@link Text.Builder}. Parameters that do not match an
+     * argument of this template are ignored.
+     *
+     * @param params Parameters to apply
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     */
+    public Text.Builder apply(Map<String, TextElement> params) {
+        checkNotNull(params, "params");
+        if (params.isEmpty()) {
+            return apply(NO_PARAMS);
+        }
+        TextElement[] slotted = new TextElement[this.argumentNames.size()];
+        for (int i = 0; i < slotted.length; i++) {
+            slotted[i] = params.get(this.argumentNames.get(i));
+        }
+        return apply(slotted);
+    }
+
+    /**
+     * Applies the specified parameters to this template and returns the
+     * result in the format of the specified {@link TextSerializer}.
+     *
+     * @param serializer The serializer to produce the output with
+     * @param params Parameters to apply, indexed by slot
+     * @return The serialized result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     * @see TextSerializer#serialize(CompiledTextTemplate, TextElement...)
+     */
+    public String serialize(TextSerializer serializer, TextElement... params) {
+        return checkNotNull(serializer, "serializer").serialize(this, params);
+    }
+
+    /**
+     * Returns the number of elements in this template.
+     *
+     * @return The number of elements
+     */
+    public int size() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the slot of the argument at the specified element index, or
+     * {@code -1} if the element is constant.
+     *
+     * @param index The element index
+     * @return The slot of the element, or -1 if constant
+     */
+    public int getSlot(int index) {
+        return this.slots[index];
+    }
+
+    /**
+     * Returns the constant {@link Text} at the specified element index, or
+     * {@code null} if the element is an argument or a {@link TextElement}
+     * which has to be applied to the result builder.
+     *
+     * <p>Serializers may use this together with {@link #getSlot(int)} to
+     * cache the serialized form of constant segments.</p>
+     *
+     * @param index The element index
+     * @return The constant text, or null if not a constant text
+     */
+    @Nullable
+    public Text getConstant(int index) {
+        return this.texts[index];
+    }
+
+    private static Text wrap(TextElement param, Arg arg) {
+        // wrap the parameter in the argument format
+        Text.Builder wrapper = Text.builder().format(arg.format);
+        param.applyTo(wrapper);
+        return wrapper.build();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("template", this.template)
+                .add("argumentNames", this.argumentNames)
+                .toString();
+    }
+
+}
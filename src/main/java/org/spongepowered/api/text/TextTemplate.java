@@ -81,6 +81,7 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
     final Text text;
     final String openArg;
     final String closeArg;
+    @Nullable private CompiledTextTemplate compiled;
 
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
@@ -168,6 +169,21 @@ public TextTemplate concat(TextTemplate other) {
         return of(this.openArg, this.closeArg, elements.toArray(new Object[elements.size()]));
     }
 
+    /**
+     * Returns the {@link CompiledTextTemplate} for this TextTemplate, which
+     * resolves the arguments to integer slots ahead of time. Use it instead of
+     * {@link #apply(Map)} if the same template is applied frequently.
+     *
+     * @return The compiled template
+     */
+    public CompiledTextTemplate compile() {
+        CompiledTextTemplate compiled = this.compiled;
+        if (compiled == null) {
+            this.compiled = compiled = new CompiledTextTemplate(this);
+        }
+        return compiled;
+    }
+
     /**
      * Applies an empty map of parameters to this TextTemplate and returns the
      * result in a {@link Text.Builder}.
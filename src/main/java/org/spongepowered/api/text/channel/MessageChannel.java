@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
@@ -55,7 +56,7 @@ public interface MessageChannel {
     /**
      * A channel with all online players as members.
      */
-    MessageChannel TO_PLAYERS = () -> ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayers());
+    MessageChannel TO_PLAYERS = MessageDelivery::players;
     /**
      * A channel with the server console as a member.
      */
@@ -63,10 +64,18 @@ public interface MessageChannel {
     /**
      * A channel with all online players, as well as the server console, as members.
      */
-    MessageChannel TO_ALL = () -> ImmutableSet.<MessageReceiver>builder()
-            .addAll(Sponge.getGame().getServer().getOnlinePlayers())
-            .add(Sponge.getGame().getServer().getConsole())
-            .build();
+    MessageChannel TO_ALL = MessageDelivery::all;
+
+    /**
+     * Discards the online players cached by {@link #TO_PLAYERS} and
+     * {@link #TO_ALL}.
+     *
+     * <p>The implementation must call this whenever a player has been added
+     * to or removed from {@link Server#getOnlinePlayers()}.</p>
+     */
+    static void invalidateOnlinePlayers() {
+        MessageDelivery.invalidate();
+    }
 
     /**
      * Gets a message channel that targets all subjects with the given permission.
@@ -162,6 +171,10 @@ default void send(@Nullable Object sender, Text original) {
     /**
      * Send a message to this channel, transforming and sending it to the members.
      *
+     * <p>Members that receive an identical transformed message are grouped
+     * together, and each distinct message is passed once to
+     * {@link Server#sendMessage(Iterable, ChatType, Text)} for its group.</p>
+     *
      * @param sender The sender of the message
      * @param original The original message to send
      * @param type The type of message
@@ -169,13 +182,7 @@ default void send(@Nullable Object sender, Text original) {
     default void send(@Nullable Object sender, Text original, ChatType type) {
         checkNotNull(original, "original text");
         checkNotNull(type, "type");
-        for (MessageReceiver member : this.getMembers()) {
-            if (member instanceof ChatTypeMessageReceiver) {
-                this.transformMessage(sender, member, original, type).ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
-            } else {
-                this.transformMessage(sender, member, original, type).ifPresent(member::sendMessage);
-            }
-        }
+        MessageDelivery.send(this, sender, original, type);
     }
 
     /**
@@ -0,0 +1,155 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Shared logic for the default implementation of {@link MessageChannel}.
+ */
+final class MessageDelivery {
+
+    private static final Object LOCK = new Object();
+    @Nullable private static volatile ImmutableSet<MessageReceiver> players;
+    @Nullable private static volatile Members all;
+
+    private MessageDelivery() {
+    }
+
+    /**
+     * Gets the online players as message receivers. The result is cached
+     * until {@link #invalidate()} is called.
+     *
+     * @return The online players
+     */
+    static ImmutableSet<MessageReceiver> players() {
+        ImmutableSet<MessageReceiver> members = players;
+        if (members == null) {
+            synchronized (LOCK) {
+                members = players;
+                if (members == null) {
+                    players = members = ImmutableSet.copyOf(Sponge.getServer().getOnlinePlayers());
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Gets the online players and the console as message receivers. The
+     * result is cached until {@link #invalidate()} is called.
+     *
+     * @return The online players and the console
+     */
+    static Collection<MessageReceiver> all() {
+        ImmutableSet<MessageReceiver> online = players();
+        MessageReceiver console = Sponge.getServer().getConsole();
+        Members members = all;
+        if (members == null || members.players != online || members.console != console) {
+            all = members = new Members(online, console, ImmutableSet.<MessageReceiver>builder().addAll(online).add(console).build());
+        }
+        return members.members;
+    }
+
+    /**
+     * Discards the cached online players.
+     */
+    static void invalidate() {
+        synchronized (LOCK) {
+            players = null;
+        }
+    }
+
+    /**
+     * Transforms the message for each member of the channel and sends every
+     * distinct result once to the group of members that receive it.
+     *
+     * @param channel The channel to send the message to
+     * @param sender The sender of the message
+     * @param original The original message
+     * @param type The type of message
+     */
+    static void send(MessageChannel channel, @Nullable Object sender, Text original, ChatType type) {
+        List<MessageReceiver> unchanged = new ArrayList<>();
+        Map<Text, List<MessageReceiver>> transformed = null;
+        for (MessageReceiver member : channel.getMembers()) {
+            Optional<Text> result = channel.transformMessage(sender, member, original, type);
+            if (!result.isPresent()) {
+                continue;
+            }
+            Text message = result.get();
+            // Avoid hashing the text for the common case of no transformation
+            if (message == original) {
+                unchanged.add(member);
+            } else {
+                if (transformed == null) {
+                    transformed = new LinkedHashMap<>();
+                }
+                transformed.computeIfAbsent(message, key -> new ArrayList<>()).add(member);
+            }
+        }
+
+        if (unchanged.isEmpty() && transformed == null) {
+            return;
+        }
+        Server server = Sponge.getServer();
+        if (!unchanged.isEmpty()) {
+            server.sendMessage(unchanged, type, original);
+        }
+        if (transformed != null) {
+            for (Map.Entry<Text, List<MessageReceiver>> group : transformed.entrySet()) {
+                server.sendMessage(group.getValue(), type, group.getKey());
+            }
+        }
+    }
+
+    private static final class Members {
+
+        final ImmutableSet<MessageReceiver> players;
+        final MessageReceiver console;
+        final ImmutableSet<MessageReceiver> members;
+
+        Members(ImmutableSet<MessageReceiver> players, MessageReceiver console, ImmutableSet<MessageReceiver> members) {
+            this.players = players;
+            this.console = console;
+            this.members = members;
+        }
+
+    }
+
+}
@@ -26,7 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.ServiceReference;
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
@@ -40,6 +40,8 @@
  */
 public class PermissionMessageChannel implements MessageChannel {
 
+    private static final ServiceReference<PermissionService> PERMISSION_SERVICE = ServiceReference.lazy(PermissionService.class);
+
     protected final String permission;
 
     public PermissionMessageChannel(String permission) {
@@ -52,7 +54,7 @@ public String getPermission() {
 
     @Override
     public Collection<MessageReceiver> getMembers() {
-        PermissionService service = Sponge.getGame().getServiceManager().provideUnchecked(PermissionService.class);
+        PermissionService service = PERMISSION_SERVICE.getUnchecked();
 
         return service.getKnownSubjects().values().stream()
                 .flatMap(input -> input.getAllWithPermission(this.permission).entrySet().stream()
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Selector} prepared for being resolved many times, for example by
+ * a command block running the same selector every tick.
+ *
+ * <p>Resolving a compiled selector passes the matched entities to a consumer
+ * or adds them to a given collection, rather than creating a new set for
+ * every call. Implementations look only at the chunks within the radius of
+ * the selector if it has one, and test the remaining arguments from the
+ * cheapest to the most expensive: entity types first, then positions, then
+ * scores and other data.</p>
+ *
+ * @see Selector#compile()
+ */
+public interface CompiledSelector {
+
+    /**
+     * Gets the selector this was compiled from.
+     *
+     * @return The selector
+     */
+    Selector getSelector();
+
+    /**
+     * Resolves the selector around the origin, see
+     * {@link Selector#resolve(CommandSource)}.
+     *
+     * @param origin The source that should be considered the origin of this
+     *        selector
+     * @param consumer The consumer to pass the matched entities to
+     */
+    void resolve(CommandSource origin, Consumer<? super Entity> consumer);
+
+    /**
+     * Resolves the selector around the origin, always using its position,
+     * see {@link Selector#resolveForce(CommandSource)}.
+     *
+     * @param origin The source that should be considered the origin of this
+     *        selector
+     * @param consumer The consumer to pass the matched entities to
+     */
+    void resolveForce(CommandSource origin, Consumer<? super Entity> consumer);
+
+    /**
+     * Resolves the selector around the given location, see
+     * {@link Selector#resolve(Location)}.
+     *
+     * @param location The location to resolve the selector around
+     * @param consumer The consumer to pass the matched entities to
+     */
+    void resolve(Location<World> location, Consumer<? super Entity> consumer);
+
+    /**
+     * Resolves the selector around the origin, adding the matched entities to
+     * the given collection. The collection isn't cleared first, so it can be
+     * reused by clearing it between calls.
+     *
+     * @param origin The source that should be considered the origin of this
+     *        selector
+     * @param entities The collection to add the matched entities to
+     * @param <C> The type of the collection
+     * @return The given collection, for chaining
+     */
+    default <C extends Collection<? super Entity>> C resolveTo(CommandSource origin, C entities) {
+        resolve(origin, entities::add);
+        return entities;
+    }
+
+    /**
+     * Resolves the selector around the given location, adding the matched
+     * entities to the given collection.
+     *
+     * @param location The location to resolve the selector around
+     * @param entities The collection to add the matched entities to
+     * @param <C> The type of the collection
+     * @return The given collection, for chaining
+     * @see #resolveTo(CommandSource, Collection)
+     */
+    default <C extends Collection<? super Entity>> C resolveTo(Location<World> location, C entities) {
+        resolve(location, entities::add);
+        return entities;
+    }
+
+}
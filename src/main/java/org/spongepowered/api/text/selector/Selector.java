@@ -235,6 +235,21 @@ static List<String> complete(String selector) {
      */
     Set<Entity> resolveForce(Location<World> location);
 
+    /**
+     * Compiles this {@link Selector} for resolving it many times, for
+     * example every tick.
+     *
+     * <p>The default implementation resolves selectors for all entities or
+     * all players which have a radius and otherwise only positions and entity
+     * types by looking up the nearby entities, and uses this selector for all
+     * others.</p>
+     *
+     * @return The compiled selector
+     */
+    default CompiledSelector compile() {
+        return new SimpleCompiledSelector(this);
+    }
+
     /**
      * Converts this {@link Selector} to a valid selector string.
      *
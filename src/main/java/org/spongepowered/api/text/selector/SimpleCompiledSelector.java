@@ -0,0 +1,174 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.source.LocatedSource;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * The default {@link CompiledSelector}.
+ *
+ * <p>Selectors for all entities or all players which have a maximum radius
+ * and otherwise only use positions, radii and entity types are resolved here
+ * by looking up the entities near the center, then testing their types and
+ * the minimum radius. All other selectors are passed on to the
+ * {@link Selector}.</p>
+ */
+final class SimpleCompiledSelector implements CompiledSelector {
+
+    private final Selector selector;
+    private final boolean direct;
+    private final boolean players;
+    @Nullable private final EntityType entityType;
+    private final boolean entityTypeInverted;
+    @Nullable private final Integer x;
+    @Nullable private final Integer y;
+    @Nullable private final Integer z;
+    private final double minRadiusSquared;
+    private final double maxRadius;
+
+    SimpleCompiledSelector(Selector selector) {
+        this.selector = checkNotNull(selector, "selector");
+        this.players = selector.getType() == SelectorTypes.ALL_PLAYERS;
+        this.direct = (this.players || selector.getType() == SelectorTypes.ALL_ENTITIES) && isSupported(selector);
+        if (this.direct) {
+            this.entityType = selector.get(ArgumentTypes.ENTITY_TYPE).orElse(null);
+            this.entityTypeInverted = selector.isInverted(ArgumentTypes.ENTITY_TYPE);
+            this.x = selector.get(ArgumentTypes.POSITION.x()).orElse(null);
+            this.y = selector.get(ArgumentTypes.POSITION.y()).orElse(null);
+            this.z = selector.get(ArgumentTypes.POSITION.z()).orElse(null);
+            final int minRadius = selector.get(ArgumentTypes.RADIUS.minimum()).orElse(0);
+            this.minRadiusSquared = (double) minRadius * minRadius;
+            this.maxRadius = selector.get(ArgumentTypes.RADIUS.maximum()).get();
+        } else {
+            this.entityType = null;
+            this.entityTypeInverted = false;
+            this.x = this.y = this.z = null;
+            this.minRadiusSquared = 0;
+            this.maxRadius = 0;
+        }
+    }
+
+    private static boolean isSupported(Selector selector) {
+        if (!selector.has(ArgumentTypes.RADIUS.maximum())) {
+            return false;
+        }
+        final ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
+        builder.addAll(ArgumentTypes.POSITION.getTypes()).addAll(ArgumentTypes.RADIUS.getTypes());
+        if (selector.getType() == SelectorTypes.ALL_ENTITIES) {
+            builder.add(ArgumentTypes.ENTITY_TYPE);
+        }
+        final Set<ArgumentType<?>> supported = builder.build();
+        for (Argument<?> argument : selector.getArguments()) {
+            if (!supported.contains(argument.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Selector getSelector() {
+        return this.selector;
+    }
+
+    @Override
+    public void resolve(CommandSource origin, Consumer<? super Entity> consumer) {
+        checkNotNull(consumer, "consumer");
+        // A radius is always present for direct selectors, so the position
+        // of the origin is never ignored
+        if (this.direct && origin instanceof LocatedSource) {
+            resolve(((LocatedSource) origin).getLocation(), consumer);
+        } else {
+            this.selector.resolve(origin).forEach(consumer);
+        }
+    }
+
+    @Override
+    public void resolveForce(CommandSource origin, Consumer<? super Entity> consumer) {
+        checkNotNull(consumer, "consumer");
+        if (this.direct && origin instanceof LocatedSource) {
+            resolve(((LocatedSource) origin).getLocation(), consumer);
+        } else {
+            this.selector.resolveForce(origin).forEach(consumer);
+        }
+    }
+
+    @Override
+    public void resolve(Location<World> location, Consumer<? super Entity> consumer) {
+        checkNotNull(location, "location");
+        checkNotNull(consumer, "consumer");
+        if (!this.direct) {
+            this.selector.resolve(location).forEach(consumer);
+            return;
+        }
+        // Distances are measured from the center of the origin block
+        final Vector3d center = new Vector3d(
+                (this.x != null ? this.x : location.getBlockX()) + 0.5,
+                (this.y != null ? this.y : location.getBlockY()) + 0.5,
+                (this.z != null ? this.z : location.getBlockZ()) + 0.5);
+        if (this.players) {
+            for (Player player : location.getExtent().getNearbyEntities(center, this.maxRadius, Player.class)) {
+                if (isOutsideMinRadius(player, center)) {
+                    consumer.accept(player);
+                }
+            }
+            return;
+        }
+        for (Entity entity : location.getExtent().getNearbyEntities(center, this.maxRadius)) {
+            if (matchesType(entity) && isOutsideMinRadius(entity, center)) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
+    private boolean matchesType(Entity entity) {
+        return this.entityType == null || this.entityType.equals(entity.getType()) != this.entityTypeInverted;
+    }
+
+    private boolean isOutsideMinRadius(Entity entity, Vector3d center) {
+        return this.minRadiusSquared == 0 || entity.getLocation().getPosition().distanceSquared(center) >= this.minRadiusSquared;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledSelector{" + this.selector.toPlain() + "}";
+    }
+
+}
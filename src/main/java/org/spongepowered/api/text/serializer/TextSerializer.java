@@ -24,7 +24,9 @@
  */
 package org.spongepowered.api.text.serializer;
 
+import org.spongepowered.api.text.CompiledTextTemplate;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TextElement;
 
 /**
  * Represents a serializer for {@link Text} instances that converts an input
@@ -43,6 +45,24 @@ public interface TextSerializer {
      */
     String serialize(Text text);
 
+    /**
+     * Returns a string representation of the result of applying the specified
+     * parameters to a {@link CompiledTextTemplate}. The result is the same as
+     * serializing the {@link Text} built by
+     * {@link CompiledTextTemplate#apply(TextElement...)}.
+     *
+     * <p>Implementations may override this to write the constant segments of
+     * the template directly, without building an intermediate {@link Text}
+     * for the whole template.</p>
+     *
+     * @param template The template to apply
+     * @param params The parameters to apply, indexed by slot
+     * @return The string representation of the result
+     */
+    default String serialize(CompiledTextTemplate template, TextElement... params) {
+        return serialize(template.apply(params).build());
+    }
+
     /**
      * Returns a {@link Text} instance from an appropriately formatted string.
      *
@@ -0,0 +1,202 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.base.Objects;
+
+/**
+ * An axis aligned bounding box. That is, an un-rotated cuboid. It is
+ * represented by its minimum and maximum corners, which are both contained
+ * in the box.
+ */
+public final class AABB {
+
+    private final Vector3d min;
+    private final Vector3d max;
+
+    /**
+     * Constructs a new bounding box from two opposite corners.
+     *
+     * @param firstCorner The first corner
+     * @param secondCorner The second corner
+     */
+    public AABB(Vector3d firstCorner, Vector3d secondCorner) {
+        checkNotNull(firstCorner, "firstCorner");
+        checkNotNull(secondCorner, "secondCorner");
+        this.min = firstCorner.min(secondCorner);
+        this.max = firstCorner.max(secondCorner);
+    }
+
+    /**
+     * Constructs a new bounding box from the coordinates of two opposite
+     * corners.
+     *
+     * @param x1 The first corner x coordinate
+     * @param y1 The first corner y coordinate
+     * @param z1 The first corner z coordinate
+     * @param x2 The second corner x coordinate
+     * @param y2 The second corner y coordinate
+     * @param z2 The second corner z coordinate
+     */
+    public AABB(double x1, double y1, double z1, double x2, double y2, double z2) {
+        this(new Vector3d(x1, y1, z1), new Vector3d(x2, y2, z2));
+    }
+
+    /**
+     * Constructs a new bounding box centered on a position, extending by the
+     * given distance on every axis.
+     *
+     * @param center The center of the box
+     * @param distance The distance from the center to each face
+     * @return The new bounding box
+     */
+    public static AABB around(Vector3d center, double distance) {
+        checkNotNull(center, "center");
+        return new AABB(center.sub(distance, distance, distance), center.add(distance, distance, distance));
+    }
+
+    /**
+     * Gets the minimum corner of the box.
+     *
+     * @return The minimum corner
+     */
+    public Vector3d getMin() {
+        return this.min;
+    }
+
+    /**
+     * Gets the maximum corner of the box.
+     *
+     * @return The maximum corner
+     */
+    public Vector3d getMax() {
+        return this.max;
+    }
+
+    /**
+     * Gets the center of the box.
+     *
+     * @return The center
+     */
+    public Vector3d getCenter() {
+        return this.min.add(this.max).div(2);
+    }
+
+    /**
+     * Gets the size of the box on every axis.
+     *
+     * @return The size
+     */
+    public Vector3d getSize() {
+        return this.max.sub(this.min);
+    }
+
+    /**
+     * Checks if the box contains a position.
+     *
+     * @param position The position to check
+     * @return Whether or not the box contains the position
+     */
+    public boolean contains(Vector3d position) {
+        return contains(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Checks if the box contains a position.
+     *
+     * @param x The x coordinate of the position
+     * @param y The y coordinate of the position
+     * @param z The z coordinate of the position
+     * @return Whether or not the box contains the position
+     */
+    public boolean contains(double x, double y, double z) {
+        return this.min.getX() <= x && x <= this.max.getX()
+                && this.min.getY() <= y && y <= this.max.getY()
+                && this.min.getZ() <= z && z <= this.max.getZ();
+    }
+
+    /**
+     * Checks if the box intersects another one, including when they only
+     * share a face.
+     *
+     * @param other The other box
+     * @return Whether or not the boxes intersect
+     */
+    public boolean intersects(AABB other) {
+        checkNotNull(other, "other");
+        return this.min.getX() <= other.max.getX() && other.min.getX() <= this.max.getX()
+                && this.min.getY() <= other.max.getY() && other.min.getY() <= this.max.getY()
+                && this.min.getZ() <= other.max.getZ() && other.min.getZ() <= this.max.getZ();
+    }
+
+    /**
+     * Returns a new box moved by the given offset.
+     *
+     * @param offset The offset to move by
+     * @return The moved box
+     */
+    public AABB offset(Vector3d offset) {
+        checkNotNull(offset, "offset");
+        return new AABB(this.min.add(offset), this.max.add(offset));
+    }
+
+    /**
+     * Returns a new box grown by the given amount on every side. A negative
+     * amount shrinks the box.
+     *
+     * @param amount The amount to grow by, on each side
+     * @return The grown box
+     */
+    public AABB expand(Vector3d amount) {
+        checkNotNull(amount, "amount");
+        return new AABB(this.min.sub(amount), this.max.add(amount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof AABB)) {
+            return false;
+        }
+        final AABB aabb = (AABB) other;
+        return this.min.equals(aabb.min) && this.max.equals(aabb.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.min, this.max);
+    }
+
+    @Override
+    public String toString() {
+        return "AABB(" + this.min + " to " + this.max + ")";
+    }
+
+}
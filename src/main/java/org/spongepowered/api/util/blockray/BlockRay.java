@@ -39,6 +39,7 @@
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.Extent;
 
 import java.util.Iterator;
@@ -94,7 +95,9 @@
     private static final Vector3d Y_NEGATIVE = Y_POSITIVE.negate();
     private static final Vector3d Z_POSITIVE = Vector3d.UNIT_Z;
     private static final Vector3d Z_NEGATIVE = Z_POSITIVE.negate();
-    private static final int DEFAULT_BLOCK_LIMIT = 1000;
+    static final int DEFAULT_BLOCK_LIMIT = 1000;
+    // Upper bound of the blocks a ray can enter in one 16x16x16 chunk section
+    private static final int SECTION_BATCH_SIZE = 48;
     // Ending test predicate
     private final Predicate<BlockRayHit<E>> filter;
     // Extent to iterate in
@@ -137,6 +140,23 @@
     private BlockRayHit<E> hit;
     // If hasNext() is called, we need to move ahead to check the next hit
     private boolean ahead;
+    // The block bounds of the extent, used while tracing
+    private int xMin;
+    private int yMin;
+    private int zMin;
+    private int xMax;
+    private int yMax;
+    private int zMax;
+    // The current block, used while tracing
+    private int xBlock;
+    private int yBlock;
+    private int zBlock;
+    // The hit reused to test the filter while tracing, lazily created
+    private BlockRayHit<E> cursor;
+    // The buffers for batched block type lookups, lazily created
+    private int[] batchPositions;
+    private Vector3d[] batchNormals;
+    private BlockType[] batchTypes;
 
     private BlockRay(Predicate<BlockRayHit<E>> filter, E extent, Vector3d position, Vector3d direction) {
         checkArgument(direction.lengthSquared() != 0, "Direction cannot be the zero vector");
@@ -264,6 +284,147 @@ public Optional<BlockRayHit<E>> end() {
         return Optional.ofNullable(this.hit);
     }
 
+    /**
+     * Traces the block ray from its current position, calling the visitor for
+     * every block accepted by the filter, until the visitor returns false or
+     * the filter, extent or block limit is reached. This advances the ray.
+     *
+     * <p>Unlike the iterator, this doesn't create a {@link BlockRayHit} for
+     * every block. If the ray has filters, they are tested with a single hit
+     * which is reused for every block.</p>
+     *
+     * @param visitor The visitor to call for each block
+     * @return True if the visitor stopped the trace, false if the ray ended
+     */
+    public boolean trace(BlockRayVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        if (this.ahead) {
+            // We already advanced in hasNext()
+            this.ahead = false;
+            if (!visitor.visit(this.hit.getBlockX(), this.hit.getBlockY(), this.hit.getBlockZ(), this.hit.getNormal())) {
+                return true;
+            }
+        }
+        this.hit = null;
+        updateBounds(this.extent);
+        while (advanceBlock()) {
+            if (!visitor.visit(this.xBlock, this.yBlock, this.zBlock, this.normalCurrent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Traces the block ray like {@link #trace(BlockRayVisitor)}, but also
+     * passes the {@link BlockType} of each block to the visitor.
+     *
+     * <p>The block types are looked up in batches through
+     * {@link Extent#getBlockTypes(int[], int, BlockType[])}, one batch for
+     * every chunk section the ray passes through. Because of this, the ray
+     * and its filters may have advanced up to the end of the current chunk
+     * section when the visitor stops the trace.</p>
+     *
+     * @param visitor The visitor to call for each block
+     * @return True if the visitor stopped the trace, false if the ray ended
+     */
+    public boolean traceTypes(BlockTypeRayVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        return traceTypes(visitor, this.extent, this.extent::getBlockTypes);
+    }
+
+    boolean traceTypes(BlockTypeRayVisitor visitor, BlockVolume volume, BlockTypeLookup lookup) {
+        if (this.batchPositions == null) {
+            this.batchPositions = new int[SECTION_BATCH_SIZE * 3];
+            this.batchNormals = new Vector3d[SECTION_BATCH_SIZE];
+            this.batchTypes = new BlockType[SECTION_BATCH_SIZE];
+        }
+        int count = 0;
+        if (this.ahead) {
+            // We already advanced in hasNext()
+            this.ahead = false;
+            count = addToBatch(0, this.hit.getBlockX(), this.hit.getBlockY(), this.hit.getBlockZ(), this.hit.getNormal());
+        }
+        this.hit = null;
+        updateBounds(volume);
+        while (advanceBlock()) {
+            if (count > 0 && (count == SECTION_BATCH_SIZE || !isInBatchSection(this.xBlock, this.yBlock, this.zBlock))) {
+                if (!visitBatch(count, visitor, lookup)) {
+                    return true;
+                }
+                count = 0;
+            }
+            count = addToBatch(count, this.xBlock, this.yBlock, this.zBlock, this.normalCurrent);
+        }
+        return count > 0 && !visitBatch(count, visitor, lookup);
+    }
+
+    private int addToBatch(int index, int x, int y, int z, Vector3d normal) {
+        final int offset = index * 3;
+        this.batchPositions[offset] = x;
+        this.batchPositions[offset + 1] = y;
+        this.batchPositions[offset + 2] = z;
+        this.batchNormals[index] = normal;
+        return index + 1;
+    }
+
+    private boolean isInBatchSection(int x, int y, int z) {
+        return x >> 4 == this.batchPositions[0] >> 4 && y >> 4 == this.batchPositions[1] >> 4 && z >> 4 == this.batchPositions[2] >> 4;
+    }
+
+    private boolean visitBatch(int count, BlockTypeRayVisitor visitor, BlockTypeLookup lookup) {
+        lookup.getBlockTypes(this.batchPositions, count, this.batchTypes);
+        for (int i = 0, j = 0; i < count; i++, j += 3) {
+            if (!visitor.visit(this.batchPositions[j], this.batchPositions[j + 1], this.batchPositions[j + 2], this.batchNormals[i],
+                    this.batchTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void updateBounds(BlockVolume volume) {
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        this.xMin = min.getX();
+        this.yMin = min.getY();
+        this.zMin = min.getZ();
+        this.xMax = max.getX();
+        this.yMax = max.getY();
+        this.zMax = max.getZ();
+    }
+
+    private boolean advanceBlock() {
+        // Check the block limit if in use
+        if (this.blockLimit >= 0 && this.blockCount >= this.blockLimit) {
+            return false;
+        }
+        step();
+        // Take into account the face through which we entered
+        // so we know which block is the correct one
+        this.xBlock = GenericMath.floor(this.xCurrent) - (this.normalCurrent.getX() > 0 ? 1 : 0);
+        this.yBlock = GenericMath.floor(this.yCurrent) - (this.normalCurrent.getY() > 0 ? 1 : 0);
+        this.zBlock = GenericMath.floor(this.zCurrent) - (this.normalCurrent.getZ() > 0 ? 1 : 0);
+        // Make sure we actually have a block
+        if (this.xBlock < this.xMin || this.xBlock > this.xMax || this.yBlock < this.yMin || this.yBlock > this.yMax
+                || this.zBlock < this.zMin || this.zBlock > this.zMax) {
+            return false;
+        }
+        // Check the block filter
+        if (this.filter != ALL_FILTER) {
+            if (this.cursor == null) {
+                this.cursor = new BlockRayHit<>(this.extent, this.xCurrent, this.yCurrent, this.zCurrent, this.direction, this.normalCurrent);
+            } else {
+                this.cursor.set(this.xCurrent, this.yCurrent, this.zCurrent, this.normalCurrent);
+            }
+            if (!this.filter.test(this.cursor)) {
+                return false;
+            }
+        }
+        this.blockCount++;
+        return true;
+    }
+
     private void advance() {
         // Check the block limit if in use
         if (this.blockLimit >= 0 && this.blockCount >= this.blockLimit) {
@@ -271,6 +432,25 @@ private void advance() {
             throw new NoSuchElementException("Block limit reached");
         }
 
+        step();
+
+        final BlockRayHit<E> hit = new BlockRayHit<>(this.extent, this.xCurrent, this.yCurrent, this.zCurrent, this.direction, this.normalCurrent);
+
+        // Make sure we actually have a block
+        if (!this.extent.containsBlock(hit.getBlockX(), hit.getBlockY(), hit.getBlockZ())) {
+            this.hit = null;
+            throw new NoSuchElementException("Extent limit reached");
+        }
+        // Check the block filter
+        if (!this.filter.test(hit)) {
+            throw new NoSuchElementException("Filter limit reached");
+        }
+
+        this.hit = hit;
+        this.blockCount++;
+    }
+
+    private void step() {
         /*
             The ray can be modeled using the following parametric equations:
                 x = d_x * t + p_x
@@ -322,21 +502,6 @@ private void advance() {
             // xPlaneT and yPlaneT exist
             solveIntersections();
         }
-
-        final BlockRayHit<E> hit = new BlockRayHit<>(this.extent, this.xCurrent, this.yCurrent, this.zCurrent, this.direction, this.normalCurrent);
-
-        // Make sure we actually have a block
-        if (!this.extent.containsBlock(hit.getBlockX(), hit.getBlockY(), hit.getBlockZ())) {
-            this.hit = null;
-            throw new NoSuchElementException("Extent limit reached");
-        }
-        // Check the block filter
-        if (!this.filter.test(hit)) {
-            throw new NoSuchElementException("Filter limit reached");
-        }
-
-        this.hit = hit;
-        this.blockCount++;
     }
 
     private void solveIntersections() {
@@ -479,6 +644,35 @@ private Vector3d getYzNormal() {
         return this.yzNormal;
     }
 
+    /**
+     * Creates a block ray without an extent and filter, which can only be
+     * traced through {@link #traceTypes(BlockTypeRayVisitor, BlockVolume,
+     * BlockTypeLookup)}. Used by {@link BulkBlockRay}.
+     *
+     * @param position The starting position
+     * @param direction The normalized direction
+     * @param blockLimit The block limit
+     * @return The block ray
+     */
+    static BlockRay<Extent> detached(Vector3d position, Vector3d direction, int blockLimit) {
+        final BlockRay<Extent> blockRay = new BlockRay<>(allFilter(), null, position, direction);
+        blockRay.setBlockLimit(blockLimit);
+        return blockRay;
+    }
+
+    /**
+     * Initializes a builder for many rays traced at once through a block
+     * volume, such as the rays of a cone.
+     *
+     * @param volume The volume in which to trace the rays
+     * @return A new bulk block ray builder
+     * @see BulkBlockRay
+     */
+    public static BulkBlockRay.Builder bulk(BlockVolume volume) {
+        checkNotNull(volume, "volume");
+        return new BulkBlockRay.Builder(volume);
+    }
+
     /**
      * Initializes a block ray builder with the given starting location.
      *
@@ -655,6 +849,31 @@ public Iterator<BlockRayHit<E>> iterator() {
         public Optional<BlockRayHit<E>> end() {
             return build().end();
         }
+
+        /**
+         * Traces the built block ray without creating a hit for every block.
+         *
+         * @param visitor The visitor to call for each block
+         * @return True if the visitor stopped the trace, false if the ray ended
+         * @see #build()
+         * @see BlockRay#trace(BlockRayVisitor)
+         */
+        public boolean trace(BlockRayVisitor visitor) {
+            return build().trace(visitor);
+        }
+
+        /**
+         * Traces the built block ray without creating a hit for every block,
+         * looking up the block types in batches.
+         *
+         * @param visitor The visitor to call for each block
+         * @return True if the visitor stopped the trace, false if the ray ended
+         * @see #build()
+         * @see BlockRay#traceTypes(BlockTypeRayVisitor)
+         */
+        public boolean traceTypes(BlockTypeRayVisitor visitor) {
+            return build().traceTypes(visitor);
+        }
     }
 
     /**
@@ -35,22 +35,26 @@
  * Represents a block hit by a ray. Stores more information than a regular location.
  * Extra object are lazily computed and cached.
  *
+ * <p>Hits returned by the {@link BlockRay} iterator are never modified. The
+ * hit passed to the filters during {@link BlockRay#trace(BlockRayVisitor)}
+ * is reused for every block, use {@link #copy()} to retain it.</p>
+ *
  *  * @param <E> The extent containing the hit
  */
 @SuppressWarnings("Convert2Diamond")
 public class BlockRayHit<E extends Extent> {
 
     private final E extent;
-    private final double x;
-    private final double y;
-    private final double z;
+    private double x;
+    private double y;
+    private double z;
     private Vector3d position = null;
-    private final int xBlock;
-    private final int yBlock;
-    private final int zBlock;
+    private int xBlock;
+    private int yBlock;
+    private int zBlock;
     private Vector3i blockPosition = null;
     private final Vector3d direction;
-    private final Vector3d normal;
+    private Vector3d normal;
     private Direction[] faces = null;
     private Location<E> location = null;
 
@@ -67,10 +71,23 @@
      */
     public BlockRayHit(E extent, double x, double y, double z, Vector3d direction, Vector3d normal) {
         this.extent = extent;
+        this.direction = direction;
+        set(x, y, z, normal);
+    }
+
+    /**
+     * Moves this hit to a new intersection, used by {@link BlockRay} to
+     * reuse a single hit instance while tracing.
+     *
+     * @param x The x coordinate of the intersection
+     * @param y The y coordinate of the intersection
+     * @param z The z coordinate of the intersection
+     * @param normal The normal of the entered face, edge or corner
+     */
+    final void set(double x, double y, double z, Vector3d normal) {
         this.x = x;
         this.y = y;
         this.z = z;
-        this.direction = direction;
         this.normal = normal;
         // Take into account the face through which we entered
         // so we know which block is the correct one
@@ -78,6 +95,19 @@ public BlockRayHit(E extent, double x, double y, double z, Vector3d direction, V
         //noinspection SuspiciousNameCombination
         this.yBlock = GenericMath.floor(y) - (normal.getY() > 0 ? 1 : 0);
         this.zBlock = GenericMath.floor(z) - (normal.getZ() > 0 ? 1 : 0);
+        this.position = null;
+        this.blockPosition = null;
+        this.faces = null;
+        this.location = null;
+    }
+
+    /**
+     * Returns a new hit with the same values as this one.
+     *
+     * @return A copy of this hit
+     */
+    public BlockRayHit<E> copy() {
+        return new BlockRayHit<>(this.extent, this.x, this.y, this.z, this.direction, this.normal);
     }
 
     /**
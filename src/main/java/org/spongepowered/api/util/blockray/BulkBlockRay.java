@@ -0,0 +1,486 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.TrigMath;
+import com.flowpowered.math.imaginary.Quaterniond;
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * The results of many rays traced at once through a {@link BlockVolume}. Use
+ * {@link BlockRay#bulk(BlockVolume)} to trace the rays.
+ *
+ * <p>Each ray passes through blocks until it enters a block which is
+ * accepted by the stop predicate of the builder, which is the hit of the
+ * ray. Rays that reach the block limit or leave the volume first don't hit
+ * anything. The results are stored in packed arrays and accessed by the
+ * index of the ray, in the order in which the rays were added.</p>
+ *
+ * <p>Rays share the block types looked up in the chunk sections they pass
+ * through, which makes tracing many rays from nearby origins, such as the
+ * rays of a cone, cheaper than tracing each of them through
+ * {@link BlockRay}.</p>
+ */
+public final class BulkBlockRay {
+
+    // Number of rays below which a parallel trace doesn't split any further
+    private static final int PARALLEL_THRESHOLD = 32;
+
+    private final int size;
+    private final int[] positions;
+    private final int[] blockCounts;
+    private final BlockType[] types;
+
+    private BulkBlockRay(int size) {
+        this.size = size;
+        this.positions = new int[size * 3];
+        this.blockCounts = new int[size];
+        this.types = new BlockType[size];
+    }
+
+    /**
+     * Returns the number of traced rays.
+     *
+     * @return The number of rays
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether the ray hit a block.
+     *
+     * @param ray The index of the ray
+     * @return True if the ray hit a block
+     */
+    public boolean isHit(int ray) {
+        return this.types[ray] != null;
+    }
+
+    /**
+     * Returns the number of rays that hit a block.
+     *
+     * @return The number of hits
+     */
+    public int getHitCount() {
+        int count = 0;
+        for (BlockType type : this.types) {
+            if (type != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the x coordinate of the block hit by the ray.
+     *
+     * @param ray The index of the ray
+     * @return The x coordinate
+     * @throws IllegalStateException If the ray didn't hit a block
+     */
+    public int getBlockX(int ray) {
+        checkHit(ray);
+        return this.positions[ray * 3];
+    }
+
+    /**
+     * Returns the y coordinate of the block hit by the ray.
+     *
+     * @param ray The index of the ray
+     * @return The y coordinate
+     * @throws IllegalStateException If the ray didn't hit a block
+     */
+    public int getBlockY(int ray) {
+        checkHit(ray);
+        return this.positions[ray * 3 + 1];
+    }
+
+    /**
+     * Returns the z coordinate of the block hit by the ray.
+     *
+     * @param ray The index of the ray
+     * @return The z coordinate
+     * @throws IllegalStateException If the ray didn't hit a block
+     */
+    public int getBlockZ(int ray) {
+        checkHit(ray);
+        return this.positions[ray * 3 + 2];
+    }
+
+    /**
+     * Returns the type of the block hit by the ray.
+     *
+     * @param ray The index of the ray
+     * @return The block type
+     * @throws IllegalStateException If the ray didn't hit a block
+     */
+    public BlockType getBlockType(int ray) {
+        checkHit(ray);
+        return this.types[ray];
+    }
+
+    /**
+     * Returns the number of blocks the ray passed through before it hit a
+     * block or ended. The hit block isn't counted.
+     *
+     * @param ray The index of the ray
+     * @return The number of blocks passed through
+     */
+    public int getBlockCount(int ray) {
+        return this.blockCounts[ray];
+    }
+
+    private void checkHit(int ray) {
+        checkState(this.types[ray] != null, "Ray %s didn't hit a block", ray);
+    }
+
+    private void trace(Builder builder, int from, int to) {
+        final SectionCache cache = new SectionCache(builder.volume);
+        for (int i = from; i < to; i++) {
+            final int ray = i;
+            final BlockRay<Extent> blockRay = BlockRay.detached(builder.origins.get(ray), builder.directions.get(ray), builder.blockLimit);
+            blockRay.traceTypes((x, y, z, normal, type) -> {
+                if (builder.stopFilter.test(type)) {
+                    this.positions[ray * 3] = x;
+                    this.positions[ray * 3 + 1] = y;
+                    this.positions[ray * 3 + 2] = z;
+                    this.types[ray] = type;
+                    return false;
+                }
+                this.blockCounts[ray]++;
+                return true;
+            }, builder.volume, cache);
+        }
+    }
+
+    /**
+     * Looks up block types through the volume and keeps them for the chunk
+     * sections they are in, so rays passing through the same section don't
+     * look up the same block twice.
+     */
+    private static final class SectionCache implements BlockTypeLookup {
+
+        private final BlockVolume volume;
+        private final Map<Long, BlockType[]> sections = new HashMap<>();
+        private int[] missingPositions = new int[0];
+        private int[] missingIndices = new int[0];
+        private BlockType[] missingTypes = new BlockType[0];
+        private long lastKey;
+        @Nullable private BlockType[] lastSection;
+
+        SectionCache(BlockVolume volume) {
+            this.volume = volume;
+        }
+
+        @Override
+        public void getBlockTypes(int[] positions, int count, BlockType[] types) {
+            if (this.missingIndices.length < count) {
+                this.missingPositions = new int[count * 3];
+                this.missingIndices = new int[count];
+                this.missingTypes = new BlockType[count];
+            }
+            int missing = 0;
+            for (int i = 0, j = 0; i < count; i++, j += 3) {
+                final BlockType type = getSection(positions[j], positions[j + 1], positions[j + 2])
+                        [index(positions[j], positions[j + 1], positions[j + 2])];
+                if (type == null) {
+                    System.arraycopy(positions, j, this.missingPositions, missing * 3, 3);
+                    this.missingIndices[missing++] = i;
+                } else {
+                    types[i] = type;
+                }
+            }
+            if (missing == 0) {
+                return;
+            }
+            this.volume.getBlockTypes(this.missingPositions, missing, this.missingTypes);
+            for (int i = 0, j = 0; i < missing; i++, j += 3) {
+                final int x = this.missingPositions[j];
+                final int y = this.missingPositions[j + 1];
+                final int z = this.missingPositions[j + 2];
+                getSection(x, y, z)[index(x, y, z)] = this.missingTypes[i];
+                types[this.missingIndices[i]] = this.missingTypes[i];
+            }
+        }
+
+        private BlockType[] getSection(int x, int y, int z) {
+            final long key = ((long) (x >> 4) & 0x3FFFFFF) << 38 | ((long) (z >> 4) & 0x3FFFFFF) << 12 | (y >> 4) & 0xFFF;
+            if (this.lastSection == null || this.lastKey != key) {
+                this.lastSection = this.sections.computeIfAbsent(key, k -> new BlockType[16 * 16 * 16]);
+                this.lastKey = key;
+            }
+            return this.lastSection;
+        }
+
+        private static int index(int x, int y, int z) {
+            return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+        }
+
+    }
+
+    private static final class TraceTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BulkBlockRay result;
+        private final Builder builder;
+        private final int from;
+        private final int to;
+
+        TraceTask(BulkBlockRay result, Builder builder, int from, int to) {
+            this.result = result;
+            this.builder = builder;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_THRESHOLD) {
+                this.result.trace(this.builder, this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new TraceTask(this.result, this.builder, this.from, middle),
+                        new TraceTask(this.result, this.builder, middle, this.to));
+            }
+        }
+
+    }
+
+    /**
+     * A builder for a {@link BulkBlockRay}. Use
+     * {@link BlockRay#bulk(BlockVolume)} to get an instance.
+     */
+    public static final class Builder {
+
+        final BlockVolume volume;
+        final List<Vector3d> origins = new ArrayList<>();
+        final List<Vector3d> directions = new ArrayList<>();
+        Predicate<BlockType> stopFilter = type -> !type.equals(BlockTypes.AIR);
+        int blockLimit = BlockRay.DEFAULT_BLOCK_LIMIT;
+        @Nullable ForkJoinPool pool;
+
+        Builder(BlockVolume volume) {
+            this.volume = volume;
+        }
+
+        /**
+         * Adds a ray.
+         *
+         * @param origin The starting position of the ray
+         * @param direction The direction of the ray
+         * @return This for chained calls
+         */
+        public Builder ray(Vector3d origin, Vector3d direction) {
+            checkNotNull(origin, "origin");
+            checkNotNull(direction, "direction");
+            checkArgument(isDirection(direction), "Direction must be a finite non-zero vector");
+            this.origins.add(origin);
+            this.directions.add(direction.normalize());
+            return this;
+        }
+
+        /**
+         * Adds rays from packed arrays of origins and directions. Each ray
+         * uses three consecutive values of each array as x, y and z.
+         *
+         * @param origins The packed starting positions
+         * @param directions The packed directions
+         * @return This for chained calls
+         */
+        public Builder rays(double[] origins, double[] directions) {
+            checkNotNull(origins, "origins");
+            checkNotNull(directions, "directions");
+            checkArgument(origins.length % 3 == 0, "Origins must contain three values per ray");
+            checkArgument(origins.length == directions.length, "Origins and directions must have the same length");
+            for (int i = 0; i < origins.length; i += 3) {
+                ray(new Vector3d(origins[i], origins[i + 1], origins[i + 2]), new Vector3d(directions[i], directions[i + 1], directions[i + 2]));
+            }
+            return this;
+        }
+
+        /**
+         * Adds the rays of a cone. The cone consists of a ray along the axis,
+         * surrounded by rings of rays with evenly increasing angles to the
+         * axis, up to the given angle for the outer ring.
+         *
+         * @param origin The apex of the cone
+         * @param axis The direction of the axis of the cone
+         * @param angle The angle between the axis and the outer rays, in
+         *     degrees
+         * @param rings The number of rings around the axis
+         * @param raysPerRing The number of rays in each ring
+         * @return This for chained calls
+         */
+        public Builder cone(Vector3d origin, Vector3d axis, double angle, int rings, int raysPerRing) {
+            checkNotNull(origin, "origin");
+            checkNotNull(axis, "axis");
+            checkArgument(isDirection(axis), "Axis must be a finite non-zero vector");
+            checkArgument(rings >= 0, "Rings cannot be negative");
+            checkArgument(raysPerRing > 0 || rings == 0, "Rays per ring must be positive");
+            final Vector3d normalAxis = axis.normalize();
+            // Two vectors perpendicular to the axis and each other
+            final Vector3d u = normalAxis.cross(Math.abs(normalAxis.getX()) < 0.9 ? Vector3d.UNIT_X : Vector3d.UNIT_Y).normalize();
+            final Vector3d v = normalAxis.cross(u);
+            ray(origin, normalAxis);
+            for (int ring = 1; ring <= rings; ring++) {
+                final double theta = Math.toRadians(angle * ring / rings);
+                final Vector3d along = normalAxis.mul(TrigMath.cos(theta));
+                final double radius = TrigMath.sin(theta);
+                for (int i = 0; i < raysPerRing; i++) {
+                    final double phi = TrigMath.TWO_PI * i / raysPerRing;
+                    ray(origin, along.add(u.mul(TrigMath.cos(phi) * radius)).add(v.mul(TrigMath.sin(phi) * radius)));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Adds the rays of a fan. The rays are spread evenly in the plane
+         * perpendicular to the normal, over an arc centered on the axis.
+         *
+         * @param origin The starting position of the rays
+         * @param axis The direction of the center of the fan
+         * @param normal The normal of the plane of the fan
+         * @param angle The angle between the outer rays, in degrees
+         * @param count The number of rays
+         * @return This for chained calls
+         */
+        public Builder fan(Vector3d origin, Vector3d axis, Vector3d normal, double angle, int count) {
+            checkNotNull(origin, "origin");
+            checkNotNull(axis, "axis");
+            checkNotNull(normal, "normal");
+            checkArgument(isDirection(normal), "Normal must be a finite non-zero vector");
+            checkArgument(count > 0, "Count must be positive");
+            if (count == 1) {
+                return ray(origin, axis);
+            }
+            for (int i = 0; i < count; i++) {
+                final double rotation = -angle / 2 + angle * i / (count - 1);
+                ray(origin, Quaterniond.fromAngleDegAxis(rotation, normal).rotate(axis));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the predicate for the blocks at which the rays stop. The first
+         * block of a ray which is accepted is the hit of the ray. By default,
+         * rays stop at the first block which isn't {@link BlockTypes#AIR}.
+         *
+         * @param stopFilter The predicate for the hit blocks
+         * @return This for chained calls
+         */
+        public Builder stopAt(Predicate<BlockType> stopFilter) {
+            this.stopFilter = checkNotNull(stopFilter, "stopFilter");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of blocks each ray passes through. This is a
+         * safeguard to prevent infinite iteration. Default value is 1000. Use
+         * a negative value to disable this.
+         *
+         * @param blockLimit The block limit
+         * @return This for chained calls
+         */
+        public Builder blockLimit(int blockLimit) {
+            this.blockLimit = blockLimit;
+            return this;
+        }
+
+        /**
+         * Traces the rays in parallel on the common {@link ForkJoinPool}.
+         *
+         * @return This for chained calls
+         * @see #parallel(ForkJoinPool)
+         */
+        public Builder parallel() {
+            return parallel(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Traces the rays in parallel on the given {@link ForkJoinPool}.
+         *
+         * <p>The volume is read from several threads at once, so it has to
+         * be safe for concurrent reads, such as an
+         * {@link ImmutableBlockVolume}. An {@link Extent} may only be accessed
+         * from the main thread, use a copy like
+         * {@link Extent#getImmutableBlockCopy()} instead.</p>
+         *
+         * @param pool The pool to trace the rays on
+         * @return This for chained calls
+         */
+        public Builder parallel(ForkJoinPool pool) {
+            checkNotNull(pool, "pool");
+            checkState(!(this.volume instanceof Extent), "An extent cannot be traced in parallel, use an immutable copy instead");
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Traces all rays and returns the results. The builder may be traced
+         * again, for example after the volume changed.
+         *
+         * @return The results, indexed like the added rays
+         */
+        public BulkBlockRay trace() {
+            final BulkBlockRay result = new BulkBlockRay(this.origins.size());
+            if (this.pool == null || result.size <= PARALLEL_THRESHOLD) {
+                result.trace(this, 0, result.size);
+            } else {
+                this.pool.invoke(new TraceTask(result, this, 0, result.size));
+            }
+            return result;
+        }
+
+        private static boolean isDirection(Vector3d vector) {
+            // Also false for NaN, and infinite vectors normalize to NaN
+            final double lengthSquared = vector.lengthSquared();
+            return lengthSquared > 0 && lengthSquared < Double.POSITIVE_INFINITY;
+        }
+
+    }
+
+}
@@ -33,6 +33,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Represents a pool of tables which are rolled sequentially when retrieving
@@ -103,12 +104,24 @@ public void clearPool() {
      */
     public List<T> get(Random rand) {
         List<T> results = Lists.newArrayList();
-        for (RandomObjectTable<T> pool : this.pool) {
-            results.addAll(pool.get(rand));
-        }
+        get(rand, results::add);
         return results;
     }
 
+    /**
+     * Retrieves objects from all pools like {@link #get(Random)}, passing
+     * them to the given consumer instead of collecting them into a new list.
+     *
+     * @param rand The random object to use
+     * @param consumer The consumer to pass the retrieved entries to
+     */
+    public void get(Random rand, Consumer<? super T> consumer) {
+        checkNotNull(consumer, "consumer");
+        for (int i = 0; i < this.pool.size(); i++) {
+            this.pool.get(i).get(rand, consumer);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
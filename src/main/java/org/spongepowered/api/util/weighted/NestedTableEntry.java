@@ -30,6 +30,7 @@
 
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Represents a {@link RandomObjectTable} which is nested inside the entry of
@@ -56,6 +57,17 @@ public List<T> get(Random rand) {
         return this.table.get(rand);
     }
 
+    /**
+     * Retrieves entries from the nested table, passing them to the given
+     * consumer.
+     *
+     * @param rand The random object to use
+     * @param consumer The consumer to pass the retrieved entries to
+     */
+    public void get(Random rand, Consumer<? super T> consumer) {
+        this.table.get(rand, consumer);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
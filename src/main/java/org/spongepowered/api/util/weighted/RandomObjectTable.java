@@ -34,6 +34,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * An abstract table holding weighted objects. Objects may be retrieved from the
@@ -224,6 +225,24 @@ public int size() {
      */
     public abstract List<T> get(Random rand);
 
+    /**
+     * Performs a number of rolls like {@link #get(Random)}, but passes each
+     * returned item to the given consumer instead of collecting them into a
+     * new list.
+     *
+     * <p>The default implementation delegates to {@link #get(Random)}, the
+     * tables in this package override it to avoid the list.</p>
+     *
+     * @param rand The random object to use
+     * @param consumer The consumer to pass the returned items to
+     */
+    public void get(Random rand, Consumer<? super T> consumer) {
+        checkNotNull(consumer, "consumer");
+        for (T result : get(rand)) {
+            consumer.accept(result);
+        }
+    }
+
     /**
      * Gets the entries in the table. Note that the specific sub class of this
      * abstract table will determine the context that the entry weights should
@@ -24,23 +24,33 @@
  */
 package org.spongepowered.api.util.weighted;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.collect.Lists;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 /**
  * A table of weighted entry, each entry is given a weight, the higher the
  * weight the more likely the chance that the entry is chosen. Each roll will
  * only return a single entries value.
  *
+ * <p>Rolls search a cumulative weight array, so picking an entry takes
+ * logarithmic rather than linear time in the number of entries. The array
+ * is rebuilt on the first roll after the table is changed.</p>
+ *
  * @param <T> The entry type
  */
 public class WeightedTable<T> extends RandomObjectTable<T> {
 
     private double totalWeight = 0;
+    @Nullable private volatile Sampler<T> sampler;
 
     public WeightedTable() {
         super(1);
@@ -127,6 +137,7 @@ public void clear() {
      * Recalculates the total weight of all entries in this table.
      */
     protected void recalculateWeight() {
+        this.sampler = null;
         this.totalWeight = 0;
         for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
             TableEntry<T> entry = it.next();
@@ -144,26 +155,29 @@ protected void recalculateWeight() {
     @Override
     public List<T> get(Random rand) {
         List<T> results = Lists.newArrayList();
+        get(rand, results::add);
+        return results;
+    }
+
+    @Override
+    public void get(Random rand, Consumer<? super T> consumer) {
+        checkNotNull(consumer, "consumer");
         if (this.entries.isEmpty()) {
-            return results;
+            return;
+        }
+        Sampler<T> sampler = this.sampler;
+        if (sampler == null) {
+            this.sampler = sampler = new Sampler<>(this.entries);
         }
         int rolls = getRolls().getFlooredAmount(rand);
         for (int i = 0; i < rolls; i++) {
-            double roll = rand.nextDouble() * this.totalWeight;
-            for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
-                TableEntry<T> next = it.next();
-                roll -= next.getWeight();
-                if (roll <= 0) {
-                    if (next instanceof NestedTableEntry) {
-                        results.addAll(((NestedTableEntry<T>) next).get(rand));
-                    } else if (next instanceof WeightedObject) {
-                        results.add(((WeightedObject<T>) next).get());
-                    }
-                    break;
-                }
+            TableEntry<T> next = sampler.pick(rand.nextDouble() * this.totalWeight);
+            if (next instanceof NestedTableEntry) {
+                ((NestedTableEntry<T>) next).get(rand, consumer);
+            } else if (next instanceof WeightedObject) {
+                consumer.accept(((WeightedObject<T>) next).get());
             }
         }
-        return results;
     }
 
     @Override
@@ -245,4 +259,43 @@ public void remove() {
         }
 
     }
+
+    /**
+     * An immutable copy of the entries along with their cumulative weights.
+     */
+    private static final class Sampler<T> {
+
+        private final TableEntry<T>[] entries;
+        private final double[] cumulative;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Sampler(List<TableEntry<T>> entries) {
+            this.entries = entries.toArray(new TableEntry[entries.size()]);
+            this.cumulative = new double[this.entries.length];
+            double total = 0;
+            for (int i = 0; i < this.entries.length; i++) {
+                total += this.entries[i].getWeight();
+                this.cumulative[i] = total;
+            }
+        }
+
+        /**
+         * Gets the first entry whose cumulative weight is at least the roll,
+         * which is the entry a linear scan subtracting weights would pick.
+         */
+        TableEntry<T> pick(double roll) {
+            int low = 0;
+            int high = this.cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.cumulative[mid] < roll) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return this.entries[low];
+        }
+
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import com.flowpowered.math.vector.Vector3i;
+
+/**
+ * A hint of how urgently a chunk requested through
+ * {@link World#loadChunkAsync(Vector3i, boolean, ChunkLoadPriority)} is
+ * needed. Chunks with a higher priority are read and attached to the world
+ * before the ones with a lower priority which were requested earlier.
+ */
+public enum ChunkLoadPriority {
+
+    /**
+     * For chunks a player is waiting for, such as the destination of a
+     * teleport.
+     */
+    HIGH,
+
+    /**
+     * The default priority.
+     */
+    NORMAL,
+
+    /**
+     * For chunks loaded in the background, such as preloading an area, which
+     * should never delay other loads.
+     */
+    LOW
+
+}
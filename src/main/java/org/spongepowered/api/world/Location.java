@@ -367,6 +367,16 @@ public Location<E> add(double x, double y, double z) {
         return setPosition(getPosition().add(x, y, z));
     }
 
+    /**
+     * Creates a new {@link MutableLocation} at the extent and position of
+     * this location, for loops which move a position many times.
+     *
+     * @return The new mutable location
+     */
+    public MutableLocation<E> toMutable() {
+        return MutableLocation.of(this);
+    }
+
     /**
      * Calls the mapper function on the extent and position.
      *
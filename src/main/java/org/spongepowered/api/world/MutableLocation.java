@@ -0,0 +1,349 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.GenericMath;
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.tileentity.TileEntity;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Optional;
+
+/**
+ * A mutable position within a particular {@link Extent}, meant to be reused
+ * in loops which would otherwise create many {@link Location}s, such as path
+ * finding. The position is stored as three doubles, and the methods which
+ * move it change this instance instead of creating a new one.
+ *
+ * <p>Unlike a {@link Location}, the extent is held by a strong reference,
+ * so instances shouldn't be kept after the work they're used for is done. Use
+ * {@link #toLocation()} to store a position. This class is not thread safe.
+ * </p>
+ *
+ * <p>Block related methods use the block containing the position, that is
+ * every coordinate rounded down, like {@link Location#getBlockPosition()}.</p>
+ *
+ * @param <E> The type of extent containing this location
+ */
+public final class MutableLocation<E extends Extent> {
+
+    /**
+     * Creates a new mutable location at the same extent and position as a
+     * location.
+     *
+     * @param location The location
+     * @param <E> The type of extent
+     * @return The new mutable location
+     */
+    public static <E extends Extent> MutableLocation<E> of(Location<E> location) {
+        checkNotNull(location, "location");
+        return new MutableLocation<>(location.getExtent(), location.getX(), location.getY(), location.getZ());
+    }
+
+    private E extent;
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * Creates a new mutable location.
+     *
+     * @param extent The extent
+     * @param x The X-axis position
+     * @param y The Y-axis position
+     * @param z The Z-axis position
+     */
+    public MutableLocation(E extent, double x, double y, double z) {
+        this.extent = checkNotNull(extent, "extent");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Gets the extent.
+     *
+     * @return The extent
+     */
+    public E getExtent() {
+        return this.extent;
+    }
+
+    /**
+     * Gets the X component of the position.
+     *
+     * @return The X component
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Gets the Y component of the position.
+     *
+     * @return The Y component
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Gets the Z component of the position.
+     *
+     * @return The Z component
+     */
+    public double getZ() {
+        return this.z;
+    }
+
+    /**
+     * Gets the X component of the block position.
+     *
+     * @return The X block component
+     */
+    public int getBlockX() {
+        return GenericMath.floor(this.x);
+    }
+
+    /**
+     * Gets the Y component of the block position.
+     *
+     * @return The Y block component
+     */
+    public int getBlockY() {
+        return GenericMath.floor(this.y);
+    }
+
+    /**
+     * Gets the Z component of the block position.
+     *
+     * @return The Z block component
+     */
+    public int getBlockZ() {
+        return GenericMath.floor(this.z);
+    }
+
+    /**
+     * Gets the position as a new vector.
+     *
+     * @return The position
+     */
+    public Vector3d getPosition() {
+        return new Vector3d(this.x, this.y, this.z);
+    }
+
+    /**
+     * Gets the block position as a new vector.
+     *
+     * @return The block position
+     */
+    public Vector3i getBlockPosition() {
+        return new Vector3i(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Changes the extent.
+     *
+     * @param extent The new extent
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> setExtent(E extent) {
+        this.extent = checkNotNull(extent, "extent");
+        return this;
+    }
+
+    /**
+     * Changes the position.
+     *
+     * @param x The new X component
+     * @param y The new Y component
+     * @param z The new Z component
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> setPosition(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Changes the extent and position to the ones of a location.
+     *
+     * @param location The location
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> set(Location<E> location) {
+        this.extent = location.getExtent();
+        return setPosition(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Changes the extent and position to the ones of another mutable
+     * location.
+     *
+     * @param location The other location
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> set(MutableLocation<E> location) {
+        this.extent = location.extent;
+        return setPosition(location.x, location.y, location.z);
+    }
+
+    /**
+     * Adds vector components to the position.
+     *
+     * @param x The x component
+     * @param y The y component
+     * @param z The z component
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> add(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Subtracts vector components from the position.
+     *
+     * @param x The x component
+     * @param y The y component
+     * @param z The z component
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> sub(double x, double y, double z) {
+        return add(-x, -y, -z);
+    }
+
+    /**
+     * Moves the position by one block in the given direction.
+     *
+     * @param direction The direction to move in
+     * @return This location, for chaining
+     */
+    public MutableLocation<E> move(Direction direction) {
+        final Vector3d offset = direction.toVector3d();
+        return add(offset.getX(), offset.getY(), offset.getZ());
+    }
+
+    /**
+     * Returns true if the extent has a block at this position.
+     *
+     * @return Whether or not there is a block at this position
+     */
+    public boolean hasBlock() {
+        return this.extent.containsBlock(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Gets the block at this position.
+     *
+     * @return The block
+     */
+    public BlockState getBlock() {
+        return this.extent.getBlock(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Gets the base type of the block at this position.
+     *
+     * @return The block type
+     */
+    public BlockType getBlockType() {
+        return this.extent.getBlockType(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Replaces the block at this position with a new state.
+     *
+     * @param state The new block state
+     */
+    public void setBlock(BlockState state) {
+        this.extent.setBlock(getBlockX(), getBlockY(), getBlockZ(), state);
+    }
+
+    /**
+     * Replaces the block at this position with a new state.
+     *
+     * @param state The new block state
+     * @param notifyNeighbors Whether or not you want to notify neighboring
+     *        blocks of this change. If true, this may cause blocks to change.
+     */
+    public void setBlock(BlockState state, boolean notifyNeighbors) {
+        this.extent.setBlock(getBlockX(), getBlockY(), getBlockZ(), state, notifyNeighbors);
+    }
+
+    /**
+     * Gets the biome at this position.
+     *
+     * @return The biome
+     */
+    public BiomeType getBiome() {
+        return this.extent.getBiome(getBlockX(), getBlockZ());
+    }
+
+    /**
+     * Gets the tile entity at this position, if any.
+     *
+     * @return The tile entity, if present
+     */
+    public Optional<TileEntity> getTileEntity() {
+        return this.extent.getTileEntity(getBlockX(), getBlockY(), getBlockZ());
+    }
+
+    /**
+     * Creates an immutable {@link Location} at the current extent and
+     * position.
+     *
+     * @return The new location
+     */
+    public Location<E> toLocation() {
+        return new Location<>(this.extent, this.x, this.y, this.z);
+    }
+
+    /**
+     * Creates a new mutable location at the current extent and position.
+     *
+     * @return The copy
+     */
+    public MutableLocation<E> copy() {
+        return new MutableLocation<>(this.extent, this.x, this.y, this.z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableLocation{(" + this.x + ", " + this.y + ", " + this.z + ") in " + this.extent + "}";
+    }
+
+}
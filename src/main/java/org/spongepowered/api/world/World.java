@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.world;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.Sponge;
@@ -41,9 +43,12 @@
 import org.spongepowered.api.world.storage.WorldStorage;
 import org.spongepowered.api.world.weather.WeatherUniverse;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A loaded Minecraft world.
@@ -152,6 +157,81 @@ default Optional<Chunk> getChunk(Vector3i chunkPosition) {
      */
     Optional<Chunk> loadChunk(int cx, int cy, int cz, boolean shouldGenerate);
 
+    /**
+     * Loads the chunk at the given chunk coordinate position without blocking
+     * the main thread. Reading and decompressing the chunk, or generating it
+     * if {@code shouldGenerate} is true, happens on another thread. Only
+     * attaching the chunk to the world happens on the main thread, where the
+     * returned future is completed.
+     *
+     * @param chunkPosition The position
+     * @param shouldGenerate True to generate a new chunk
+     * @return The future of the loaded or generated chunk, if already
+     *         generated
+     */
+    default CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition, boolean shouldGenerate) {
+        return loadChunkAsync(chunkPosition, shouldGenerate, ChunkLoadPriority.NORMAL);
+    }
+
+    /**
+     * Loads the chunk at the given chunk coordinate position without blocking
+     * the main thread, with the given priority relative to the other pending
+     * loads.
+     *
+     * @param chunkPosition The position
+     * @param shouldGenerate True to generate a new chunk
+     * @param priority The priority of the load
+     * @return The future of the loaded or generated chunk, if already
+     *         generated
+     * @see #loadChunkAsync(Vector3i, boolean)
+     */
+    CompletableFuture<Optional<Chunk>> loadChunkAsync(Vector3i chunkPosition, boolean shouldGenerate, ChunkLoadPriority priority);
+
+    /**
+     * Loads the chunks at the given chunk coordinate positions without
+     * blocking the main thread, as with
+     * {@link #loadChunkAsync(Vector3i, boolean, ChunkLoadPriority)}.
+     * Implementations may reorder the loads, for example to read chunks
+     * stored in the same region file together.
+     *
+     * <p>The returned future is completed on the main thread once every
+     * chunk is loaded. The map contains the chunks in the order of the
+     * positions, and doesn't contain the positions where no chunk could be
+     * loaded.</p>
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate the missing chunks
+     * @param priority The priority of the loads
+     * @return The future of the loaded or generated chunks by position
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunks(Collection<Vector3i> chunkPositions, boolean shouldGenerate,
+            ChunkLoadPriority priority) {
+        checkNotNull(chunkPositions, "chunkPositions");
+        final Map<Vector3i, CompletableFuture<Optional<Chunk>>> futures = new LinkedHashMap<>();
+        for (Vector3i chunkPosition : chunkPositions) {
+            futures.computeIfAbsent(chunkPosition, position -> loadChunkAsync(position, shouldGenerate, priority));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()])).thenApply(ignored -> {
+            final Map<Vector3i, Chunk> chunks = new LinkedHashMap<>();
+            futures.forEach((position, future) -> future.join().ifPresent(chunk -> chunks.put(position, chunk)));
+            return chunks;
+        });
+    }
+
+    /**
+     * Loads the chunks at the given chunk coordinate positions without
+     * blocking the main thread, with the {@link ChunkLoadPriority#NORMAL}
+     * priority.
+     *
+     * @param chunkPositions The positions
+     * @param shouldGenerate True to generate the missing chunks
+     * @return The future of the loaded or generated chunks by position
+     * @see #loadChunks(Collection, boolean, ChunkLoadPriority)
+     */
+    default CompletableFuture<Map<Vector3i, Chunk>> loadChunks(Collection<Vector3i> chunkPositions, boolean shouldGenerate) {
+        return loadChunks(chunkPositions, shouldGenerate, ChunkLoadPriority.NORMAL);
+    }
+
     /**
      * Unloads the given chunk from the world. Returns a {@code boolean} flag
      * for whether the operation was successful.
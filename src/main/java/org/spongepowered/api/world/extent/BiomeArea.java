@@ -30,6 +30,8 @@
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.worker.BiomeAreaWorker;
 
+import java.util.OptionalLong;
+
 /**
  * An area containing biomes that can be at least accessed.
  *
@@ -179,6 +181,18 @@ default MutableBiomeArea getBiomeCopy() {
      */
     ImmutableBiomeArea getImmutableBiomeCopy();
 
+    /**
+     * Gets an estimate of the memory used to store the biomes of this area,
+     * in bytes, if the storage can report it. Views report the usage of the
+     * storage they are backed by. This is mostly useful to keep track of the
+     * size of copies, see {@link StorageType#PALETTED}.
+     *
+     * @return The estimated memory usage, if known
+     */
+    default OptionalLong getBiomeMemoryUsage() {
+        return OptionalLong.empty();
+    }
+
     /**
      * Gets a new biome worker for this biome area.
      *
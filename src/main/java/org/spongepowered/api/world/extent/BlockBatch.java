@@ -0,0 +1,181 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+
+import java.util.Optional;
+
+/**
+ * A set of block changes to an {@link Extent} which are applied together.
+ * Changes are recorded without touching the extent, and are only applied
+ * when {@link #apply()} is called.
+ *
+ * <p>On apply, the changes are grouped by chunk and a single
+ * {@link ChangeBlockEvent} is thrown with a transaction for every changed
+ * block. Neighbor notifications, lighting updates and the updates sent to
+ * clients are performed once all the blocks have been set, instead of after
+ * every block. This makes batches the preferred way of changing many blocks
+ * at once, such as when pasting a structure.</p>
+ *
+ * @see Extent#newBlockBatch(Cause)
+ */
+public interface BlockBatch {
+
+    /**
+     * Gets the extent the changes are applied to.
+     *
+     * @return The extent
+     */
+    Extent getExtent();
+
+    /**
+     * Gets the cause used for the events thrown when the changes are applied.
+     *
+     * @return The cause
+     */
+    Cause getCause();
+
+    /**
+     * Records a change of the block at the given position. A later change at
+     * the same position replaces this one.
+     *
+     * @param position The position
+     * @param block The new block
+     * @return This batch, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the extent
+     * @throws IllegalStateException If this batch was already applied
+     */
+    default BlockBatch setBlock(Vector3i position, BlockState block) {
+        return setBlock(position.getX(), position.getY(), position.getZ(), block);
+    }
+
+    /**
+     * Records a change of the block at the given position. A later change at
+     * the same position replaces this one.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param block The new block
+     * @return This batch, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the extent
+     * @throws IllegalStateException If this batch was already applied
+     */
+    BlockBatch setBlock(int x, int y, int z, BlockState block);
+
+    /**
+     * Records a change of the block at the given position to the default
+     * state of the type.
+     *
+     * @param position The position
+     * @param type The new type
+     * @return This batch, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the extent
+     * @throws IllegalStateException If this batch was already applied
+     */
+    default BlockBatch setBlockType(Vector3i position, BlockType type) {
+        return setBlock(position.getX(), position.getY(), position.getZ(), type.getDefaultState());
+    }
+
+    /**
+     * Records a change of the block at the given position to the default
+     * state of the type.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param type The new type
+     * @return This batch, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the extent
+     * @throws IllegalStateException If this batch was already applied
+     */
+    default BlockBatch setBlockType(int x, int y, int z, BlockType type) {
+        return setBlock(x, y, z, type.getDefaultState());
+    }
+
+    /**
+     * Sets whether neighboring blocks are notified of the changes once they
+     * are applied. This is true by default.
+     *
+     * @param notifyNeighbors Whether or not to notify neighboring blocks
+     * @return This batch, for chaining
+     */
+    BlockBatch notifyNeighbors(boolean notifyNeighbors);
+
+    /**
+     * Gets the block recorded at the given position, if any.
+     *
+     * @param position The position
+     * @return The recorded block, if present
+     */
+    default Optional<BlockState> getPendingBlock(Vector3i position) {
+        return getPendingBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Gets the block recorded at the given position, if any.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @return The recorded block, if present
+     */
+    Optional<BlockState> getPendingBlock(int x, int y, int z);
+
+    /**
+     * Gets the number of distinct positions with a recorded change.
+     *
+     * @return The number of changes
+     */
+    int size();
+
+    /**
+     * Gets whether this batch was already applied. A batch can only be
+     * applied once.
+     *
+     * @return Whether or not the batch was applied
+     */
+    boolean isApplied();
+
+    /**
+     * Applies all the recorded changes to the extent.
+     *
+     * @return False if the {@link ChangeBlockEvent} was cancelled and nothing
+     *         was changed, true otherwise
+     * @throws IllegalStateException If this batch was already applied
+     */
+    boolean apply();
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+
+/**
+ * Validates the regions used by the bulk operations of block volumes.
+ */
+final class BlockRegions {
+
+    private BlockRegions() {
+    }
+
+    /**
+     * Checks that the region is inside the volume and returns the number of
+     * blocks in it.
+     *
+     * @param volume The volume containing the region
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @return The number of blocks in the region
+     * @throws PositionOutOfBoundsException If the region isn't inside the
+     *         volume
+     */
+    static int checkRegion(BlockVolume volume, Vector3i min, Vector3i max) {
+        checkNotNull(min, "min");
+        checkNotNull(max, "max");
+        checkArgument(min.getX() <= max.getX() && min.getY() <= max.getY() && min.getZ() <= max.getZ(),
+                "The minimum %s is greater than the maximum %s", min, max);
+        if (!volume.containsBlock(min)) {
+            throw new PositionOutOfBoundsException(min, volume.getBlockMin(), volume.getBlockMax());
+        }
+        if (!volume.containsBlock(max)) {
+            throw new PositionOutOfBoundsException(max, volume.getBlockMin(), volume.getBlockMax());
+        }
+        final long size = (long) (max.getX() - min.getX() + 1) * (max.getY() - min.getY() + 1) * (max.getZ() - min.getZ() + 1);
+        checkArgument(size <= Integer.MAX_VALUE, "The region between %s and %s is too large to be stored in an array", min, max);
+        return (int) size;
+    }
+
+    /**
+     * Checks that the array holds enough blocks for the region, starting at
+     * the offset.
+     *
+     * @param length The length of the array
+     * @param offset The index of the first block of the region
+     * @param size The number of blocks in the region
+     */
+    static void checkArray(int length, int offset, int size) {
+        checkArgument(offset >= 0 && offset <= length - size, "An array of length %s cannot hold %s blocks starting at %s",
+                length, size, offset);
+    }
+
+}
@@ -31,6 +31,8 @@
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
 
+import java.util.OptionalLong;
+
 /**
  * A volume containing blocks that can be at least accessed.
  */
@@ -138,6 +140,100 @@ default BlockType getBlockType(Vector3i position) {
      */
     BlockType getBlockType(int x, int y, int z);
 
+    /**
+     * Gets the base types of the blocks at a batch of positions. The positions
+     * are packed as consecutive x, y and z coordinates, so the position of the
+     * block stored at index {@code i} of the types starts at index
+     * {@code 3 * i} of the positions.
+     *
+     * <p>Implementations may override this to resolve the underlying storage,
+     * such as a chunk section, once per batch instead of once per block.</p>
+     *
+     * @param positions The packed positions
+     * @param count The number of positions to look up
+     * @param types The array to store the types in, starting at index 0
+     * @throws PositionOutOfBoundsException If a position is outside of the
+     *         bounds of the block volume
+     */
+    default void getBlockTypes(int[] positions, int count, BlockType[] types) {
+        for (int i = 0, j = 0; i < count; i++, j += 3) {
+            types[i] = getBlockType(positions[j], positions[j + 1], positions[j + 2]);
+        }
+    }
+
+    /**
+     * Copies the blocks of a region of this volume into a new array. The
+     * blocks are ordered by y, then z, then x, so the block at (x, y, z) is
+     * stored at index {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX +
+     * (x - minX)}, where the size is {@code max - min + (1, 1, 1)}.
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @return The blocks of the region
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     * @see #getBlocks(Vector3i, Vector3i, BlockState[], int)
+     */
+    default BlockState[] getBlocks(Vector3i min, Vector3i max) {
+        final BlockState[] blocks = new BlockState[BlockRegions.checkRegion(this, min, max)];
+        getBlocks(min, max, blocks, 0);
+        return blocks;
+    }
+
+    /**
+     * Copies the blocks of a region of this volume into an array, starting at
+     * the given offset. The blocks are ordered as described in
+     * {@link #getBlocks(Vector3i, Vector3i)}.
+     *
+     * <p>Implementations may override this to copy whole sections of their
+     * storage at once, instead of looking up and transforming every position
+     * on its own.</p>
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @param blocks The array to store the blocks in
+     * @param offset The index of the first block in the array
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     * @throws IllegalArgumentException If the array is too small
+     */
+    default void getBlocks(Vector3i min, Vector3i max, BlockState[] blocks, int offset) {
+        BlockRegions.checkArray(blocks.length, offset, BlockRegions.checkRegion(this, min, max));
+        int i = offset;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    blocks[i++] = getBlock(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the blocks of a region of this volume into a new
+     * {@link PalettedStorage}, which is much smaller than an array when the
+     * region only contains a few distinct blocks. The blocks are ordered as
+     * described in {@link #getBlocks(Vector3i, Vector3i)}.
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @return The blocks of the region
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     */
+    default PalettedStorage<BlockState> getPalettedBlocks(Vector3i min, Vector3i max) {
+        final PalettedStorage<BlockState> blocks = new PalettedStorage<>(BlockRegions.checkRegion(this, min, max), getBlock(min));
+        int i = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    blocks.set(i++, getBlock(x, y, z));
+                }
+            }
+        }
+        return blocks;
+    }
+
     /**
      * Returns a new volume that is the same or smaller than the current volume.
      * This does not copy the blocks, it only provides a new view of the
@@ -207,6 +303,18 @@ default MutableBlockVolume getBlockCopy() {
      */
     ImmutableBlockVolume getImmutableBlockCopy();
 
+    /**
+     * Gets an estimate of the memory used to store the blocks of this volume,
+     * in bytes, if the storage can report it. Views report the usage of the
+     * storage they are backed by. This is mostly useful to keep track of the
+     * size of copies, see {@link StorageType#PALETTED}.
+     *
+     * @return The estimated memory usage, if known
+     */
+    default OptionalLong getBlockMemoryUsage() {
+        return OptionalLong.empty();
+    }
+
     /**
      * Gets a new block worker for this block volume.
      *
@@ -0,0 +1,294 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.AABB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index of entities by position, which answers spatial queries by only
+ * looking at the entities in the grid cells overlapping the queried area.
+ * Cells are columns spanning every height, as in chunks.
+ *
+ * <p>The positions of the entities are captured when the grid is created,
+ * so a grid is meant to be created once, for example at the start of a tick,
+ * and then queried many times. This is faster than calling the queries of
+ * {@link EntityUniverse} repeatedly when they scan every entity.</p>
+ */
+public final class EntityGrid {
+
+    /**
+     * The default size of the cells, which is the size of a chunk.
+     */
+    public static final int DEFAULT_CELL_SIZE = 16;
+
+    /**
+     * Creates a grid of the given entities, with the default cell size.
+     *
+     * @param entities The entities to index
+     * @return The new grid
+     */
+    public static EntityGrid of(Iterable<? extends Entity> entities) {
+        return of(entities, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a grid of the given entities. Smaller cells make queries over
+     * small areas faster, but take more memory.
+     *
+     * @param entities The entities to index
+     * @param cellSize The size of the cells on the x and z axes
+     * @return The new grid
+     */
+    public static EntityGrid of(Iterable<? extends Entity> entities, int cellSize) {
+        checkNotNull(entities, "entities");
+        checkArgument(cellSize > 0, "The cell size must be greater than 0");
+        return new EntityGrid(Lists.newArrayList(entities), cellSize);
+    }
+
+    private final int cellSize;
+    // Open addressing table from the key of a cell to its index
+    private long[] cellKeys = new long[16];
+    private int[] cellIndices = new int[16];
+    // Entities and positions of cell i are in [cellStarts[i], cellStarts[i + 1])
+    private final int[] cellStarts;
+    // The range of the occupied cells, queries are clamped to it
+    private long minCellX = Long.MAX_VALUE;
+    private long minCellZ = Long.MAX_VALUE;
+    private long maxCellX = Long.MIN_VALUE;
+    private long maxCellZ = Long.MIN_VALUE;
+    private final Entity[] entities;
+    private final double[] positions;
+
+    private EntityGrid(List<? extends Entity> entities, int cellSize) {
+        this.cellSize = cellSize;
+        final int size = entities.size();
+        final double[] positions = new double[size * 3];
+        final int[] entityCells = new int[size];
+        Arrays.fill(this.cellIndices, -1);
+        int[] counts = new int[16];
+        int cellCount = 0;
+        for (int i = 0; i < size; i++) {
+            final Vector3d position = entities.get(i).getLocation().getPosition();
+            positions[i * 3] = position.getX();
+            positions[i * 3 + 1] = position.getY();
+            positions[i * 3 + 2] = position.getZ();
+            final long cellX = cellOf(position.getX());
+            final long cellZ = cellOf(position.getZ());
+            this.minCellX = Math.min(this.minCellX, cellX);
+            this.minCellZ = Math.min(this.minCellZ, cellZ);
+            this.maxCellX = Math.max(this.maxCellX, cellX);
+            this.maxCellZ = Math.max(this.maxCellZ, cellZ);
+            final long key = cellKey(cellX, cellZ);
+            int slot = slotOf(key);
+            if (this.cellIndices[slot] < 0) {
+                this.cellKeys[slot] = key;
+                this.cellIndices[slot] = cellCount++;
+                if (cellCount > counts.length) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+                // Keep the table at most half full
+                if (cellCount * 2 > this.cellKeys.length) {
+                    rehash();
+                    slot = slotOf(key);
+                }
+            }
+            entityCells[i] = this.cellIndices[slot];
+            counts[entityCells[i]]++;
+        }
+        this.cellStarts = new int[cellCount + 1];
+        for (int i = 0; i < cellCount; i++) {
+            this.cellStarts[i + 1] = this.cellStarts[i] + counts[i];
+        }
+        // Reuse the counts as the next free index of each cell
+        System.arraycopy(this.cellStarts, 0, counts, 0, cellCount);
+        this.entities = new Entity[size];
+        this.positions = new double[size * 3];
+        for (int i = 0; i < size; i++) {
+            final int index = counts[entityCells[i]]++;
+            this.entities[index] = entities.get(i);
+            this.positions[index * 3] = positions[i * 3];
+            this.positions[index * 3 + 1] = positions[i * 3 + 1];
+            this.positions[index * 3 + 2] = positions[i * 3 + 2];
+        }
+    }
+
+    private void rehash() {
+        final long[] keys = this.cellKeys;
+        final int[] indices = this.cellIndices;
+        this.cellKeys = new long[keys.length * 2];
+        this.cellIndices = new int[indices.length * 2];
+        Arrays.fill(this.cellIndices, -1);
+        for (int i = 0; i < keys.length; i++) {
+            if (indices[i] >= 0) {
+                final int slot = slotOf(keys[i]);
+                this.cellKeys[slot] = keys[i];
+                this.cellIndices[slot] = indices[i];
+            }
+        }
+    }
+
+    private int slotOf(long key) {
+        final int mask = this.cellKeys.length - 1;
+        // Fibonacci hashing spreads the neighboring cells over the table
+        int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        while (this.cellIndices[slot] >= 0 && this.cellKeys[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Gets the number of entities in this grid.
+     *
+     * @return The number of entities
+     */
+    public int size() {
+        return this.entities.length;
+    }
+
+    /**
+     * Gets the entities within the given distance of a position.
+     *
+     * @param position The position
+     * @param distance The maximum distance to the position
+     * @return The nearby entities
+     */
+    public List<Entity> getNearbyEntities(Vector3d position, double distance) {
+        return getNearbyEntities(position, distance, Entity.class);
+    }
+
+    /**
+     * Gets the entities of the given type within the given distance of a
+     * position.
+     *
+     * @param position The position
+     * @param distance The maximum distance to the position
+     * @param type The class of the entities
+     * @param <T> The type of the entities
+     * @return The nearby entities
+     */
+    public <T extends Entity> List<T> getNearbyEntities(Vector3d position, double distance, Class<T> type) {
+        checkNotNull(position, "position");
+        checkArgument(distance >= 0, "The distance cannot be negative");
+        final double x = position.getX();
+        final double y = position.getY();
+        final double z = position.getZ();
+        final double distanceSquared = distance * distance;
+        return query(x - distance, z - distance, x + distance, z + distance, type, (entityX, entityY, entityZ) -> {
+            final double dx = entityX - x;
+            final double dy = entityY - y;
+            final double dz = entityZ - z;
+            return dx * dx + dy * dy + dz * dz <= distanceSquared;
+        });
+    }
+
+    /**
+     * Gets the entities positioned inside the given box.
+     *
+     * @param box The box
+     * @return The entities in the box
+     */
+    public List<Entity> getEntitiesInBox(AABB box) {
+        return getEntitiesInBox(box, Entity.class);
+    }
+
+    /**
+     * Gets the entities of the given type positioned inside the given box.
+     *
+     * @param box The box
+     * @param type The class of the entities
+     * @param <T> The type of the entities
+     * @return The entities in the box
+     */
+    public <T extends Entity> List<T> getEntitiesInBox(AABB box, Class<T> type) {
+        checkNotNull(box, "box");
+        return query(box.getMin().getX(), box.getMin().getZ(), box.getMax().getX(), box.getMax().getZ(), type, box::contains);
+    }
+
+    private <T extends Entity> List<T> query(double minX, double minZ, double maxX, double maxZ, Class<T> type, PositionFilter filter) {
+        checkNotNull(type, "type");
+        final List<T> entities = new ArrayList<>();
+        final long minCellX = Math.max(cellOf(minX), this.minCellX);
+        final long minCellZ = Math.max(cellOf(minZ), this.minCellZ);
+        final long maxCellX = Math.min(cellOf(maxX), this.maxCellX);
+        final long maxCellZ = Math.min(cellOf(maxZ), this.maxCellZ);
+        if (minCellX > maxCellX || minCellZ > maxCellZ) {
+            return entities;
+        }
+        final long cellCount = this.cellStarts.length - 1;
+        final long spanX = maxCellX - minCellX + 1;
+        final long spanZ = maxCellZ - minCellZ + 1;
+        // Compare each span first so that the product can't overflow
+        if (spanX > cellCount || spanZ > cellCount || spanX * spanZ > cellCount) {
+            // The area covers more cells than there are, look at all of them
+            collect(0, this.entities.length, entities, type, filter);
+            return entities;
+        }
+        for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (long cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                final int cell = this.cellIndices[slotOf(cellKey(cellX, cellZ))];
+                if (cell >= 0) {
+                    collect(this.cellStarts[cell], this.cellStarts[cell + 1], entities, type, filter);
+                }
+            }
+        }
+        return entities;
+    }
+
+    private <T extends Entity> void collect(int start, int end, List<T> result, Class<T> type, PositionFilter filter) {
+        for (int i = start, j = start * 3; i < end; i++, j += 3) {
+            if (filter.test(this.positions[j], this.positions[j + 1], this.positions[j + 2]) && type.isInstance(this.entities[i])) {
+                result.add(type.cast(this.entities[i]));
+            }
+        }
+    }
+
+    private long cellOf(double coordinate) {
+        // Casting saturates instead of wrapping around for huge coordinates
+        return (long) Math.floor(coordinate / this.cellSize);
+    }
+
+    private static long cellKey(long cellX, long cellZ) {
+        return cellX << 32 | cellZ & 0xFFFFFFFFL;
+    }
+
+    @FunctionalInterface
+    private interface PositionFilter {
+
+        boolean test(double x, double y, double z);
+
+    }
+
+}
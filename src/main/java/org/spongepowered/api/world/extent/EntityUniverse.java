@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.world.extent;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.data.DataContainer;
@@ -34,10 +37,12 @@
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnCause;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.util.AABB;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * A container of {@link Entity} instances.
@@ -70,6 +75,93 @@ public interface EntityUniverse {
      */
     Collection<Entity> getEntities(Predicate<Entity> filter);
 
+    /**
+     * Gets the entities within the given distance of a position, possibly
+     * only returning entities in loaded areas.
+     *
+     * <p>The default implementation tests every entity, implementations
+     * should only look at the chunks within the distance. To run many queries
+     * at once, an {@link EntityGrid} of the entities can be used instead.</p>
+     *
+     * @param position The position
+     * @param distance The maximum distance to the position
+     * @return The nearby entities
+     */
+    default Collection<Entity> getNearbyEntities(Vector3d position, double distance) {
+        return getNearbyEntities(position, distance, Entity.class);
+    }
+
+    /**
+     * Gets the entities within the given distance of a position, possibly
+     * only returning entities in loaded areas.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param distance The maximum distance to the position
+     * @return The nearby entities
+     * @see #getNearbyEntities(Vector3d, double)
+     */
+    default Collection<Entity> getNearbyEntities(double x, double y, double z, double distance) {
+        return getNearbyEntities(new Vector3d(x, y, z), distance, Entity.class);
+    }
+
+    /**
+     * Gets the entities of the given type within the given distance of a
+     * position, possibly only returning entities in loaded areas.
+     *
+     * @param position The position
+     * @param distance The maximum distance to the position
+     * @param type The class of the entities
+     * @param <T> The type of the entities
+     * @return The nearby entities
+     * @see #getNearbyEntities(Vector3d, double)
+     */
+    default <T extends Entity> Collection<T> getNearbyEntities(Vector3d position, double distance, Class<T> type) {
+        checkNotNull(position, "position");
+        checkArgument(distance >= 0, "The distance cannot be negative");
+        checkNotNull(type, "type");
+        final double distanceSquared = distance * distance;
+        return getEntities(entity -> type.isInstance(entity) && entity.getLocation().getPosition().distanceSquared(position) <= distanceSquared)
+                .stream()
+                .map(type::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the entities positioned inside the given box, possibly only
+     * returning entities in loaded areas.
+     *
+     * <p>The default implementation tests every entity, implementations
+     * should only look at the chunks overlapping the box. To run many queries
+     * at once, an {@link EntityGrid} of the entities can be used instead.</p>
+     *
+     * @param box The box
+     * @return The entities in the box
+     */
+    default Collection<Entity> getEntitiesInBox(AABB box) {
+        return getEntitiesInBox(box, Entity.class);
+    }
+
+    /**
+     * Gets the entities of the given type positioned inside the given box,
+     * possibly only returning entities in loaded areas.
+     *
+     * @param box The box
+     * @param type The class of the entities
+     * @param <T> The type of the entities
+     * @return The entities in the box
+     * @see #getEntitiesInBox(AABB)
+     */
+    default <T extends Entity> Collection<T> getEntitiesInBox(AABB box, Class<T> type) {
+        checkNotNull(box, "box");
+        checkNotNull(type, "type");
+        return getEntities(entity -> type.isInstance(entity) && box.contains(entity.getLocation().getPosition()))
+                .stream()
+                .map(type::cast)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create an entity instance at the given position.
      *
@@ -104,6 +196,26 @@ default Optional<Entity> createEntity(EntityType type, Vector3i position) {
         return createEntity(type, position.toDouble());
     }
 
+    /**
+     * Create an entity instance at the given position.
+     *
+     * <p>Creating an entity does not spawn the entity into the world. An entity
+     * created means the entity can be spawned at the given location. If
+     * {@link Optional#empty()} was returned, the entity is not able to spawn at
+     * the given location. Furthermore, this allows for the {@link Entity} to be
+     * customized further prior to traditional "ticking" and processing by core
+     * systems.</p>
+     *
+     * @param type The type
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @return An entity, if one was created
+     */
+    default Optional<Entity> createEntity(EntityType type, double x, double y, double z) {
+        return createEntity(type, new Vector3d(x, y, z));
+    }
+
     /**
      * Create an entity instance at the given position.
      *
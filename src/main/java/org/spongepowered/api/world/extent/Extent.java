@@ -243,6 +243,17 @@ default void setBlockType(int x, int y, int z, BlockType type, boolean notifyNei
         setBlock(x, y, z, type.getDefaultState(), notifyNeighbors, cause);
     }
 
+    /**
+     * Creates a new batch of block changes to this extent. The changes are
+     * only applied when {@link BlockBatch#apply()} is called, throwing a single
+     * event for all of them and deferring neighbor notifications, lighting
+     * and client updates until every block is set.
+     *
+     * @param cause The cause to use for the events
+     * @return The new batch
+     */
+    BlockBatch newBlockBatch(Cause cause);
+
     /**
      * Get a snapshot of this block at the current point in time.
      *
@@ -72,6 +72,46 @@ default MutableBiomeArea createThreadSafeBiomeBuffer(int xSize, int zSize) {
         return createThreadSafeBiomeBuffer(new Vector2i(xSize, zSize));
     }
 
+    /**
+     * Returns a new biome buffer of the desired size. This buffer uses the
+     * {@link StorageType#PALETTED} storage.
+     *
+     * @param size The size of the buffer on x and z (y in the vector)
+     * @return A new biome buffer
+     */
+    MutableBiomeArea createPalettedBiomeBuffer(Vector2i size);
+
+    /**
+     * Returns a new biome buffer of the desired size. This buffer uses the
+     * {@link StorageType#PALETTED} storage.
+     *
+     * @param xSize The size of the buffer on x
+     * @param zSize The size of the buffer on z
+     * @return A new biome buffer
+     */
+    default MutableBiomeArea createPalettedBiomeBuffer(int xSize, int zSize) {
+        return createPalettedBiomeBuffer(new Vector2i(xSize, zSize));
+    }
+
+    /**
+     * Returns a new biome buffer of the desired size, using the given type of
+     * storage.
+     *
+     * @param size The size of the buffer on x and z (y in the vector)
+     * @param type The type of storage used by the buffer
+     * @return A new biome buffer
+     */
+    default MutableBiomeArea createBiomeBuffer(Vector2i size, StorageType type) {
+        switch (type) {
+            case THREAD_SAFE:
+                return createThreadSafeBiomeBuffer(size);
+            case PALETTED:
+                return createPalettedBiomeBuffer(size);
+            default:
+                return createBiomeBuffer(size);
+        }
+    }
+
     /**
      * Returns a new block buffer of the desired size.
      *
@@ -114,4 +154,47 @@ default MutableBlockVolume createThreadSafeBlockBuffer(int xSize, int ySize, int
         return createThreadSafeBlockBuffer(new Vector3i(xSize, ySize, zSize));
     }
 
+    /**
+     * Returns a new block buffer of the desired size. This buffer uses the
+     * {@link StorageType#PALETTED} storage, which is best suited to large
+     * buffers with few distinct blocks.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @return A new block buffer
+     */
+    MutableBlockVolume createPalettedBlockBuffer(Vector3i size);
+
+    /**
+     * Returns a new block buffer of the desired size. This buffer uses the
+     * {@link StorageType#PALETTED} storage, which is best suited to large
+     * buffers with few distinct blocks.
+     *
+     * @param xSize The size of the buffer on x
+     * @param ySize The size of the buffer on y
+     * @param zSize The size of the buffer on z
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createPalettedBlockBuffer(int xSize, int ySize, int zSize) {
+        return createPalettedBlockBuffer(new Vector3i(xSize, ySize, zSize));
+    }
+
+    /**
+     * Returns a new block buffer of the desired size, using the given type of
+     * storage.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createBlockBuffer(Vector3i size, StorageType type) {
+        switch (type) {
+            case THREAD_SAFE:
+                return createThreadSafeBlockBuffer(size);
+            case PALETTED:
+                return createPalettedBlockBuffer(size);
+            default:
+                return createBlockBuffer(size);
+        }
+    }
+
 }
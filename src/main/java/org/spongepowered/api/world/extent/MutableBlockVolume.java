@@ -92,6 +92,129 @@ default void setBlockType(int x, int y, int z, BlockType type) {
         setBlock(x, y, z, type.getDefaultState());
     }
 
+    /**
+     * Sets the blocks of a region of this volume to the ones of an array. The
+     * blocks are ordered as described in
+     * {@link BlockVolume#getBlocks(Vector3i, Vector3i)}.
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @param blocks The new blocks
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     * @throws IllegalArgumentException If the array is too small
+     */
+    default void setBlocks(Vector3i min, Vector3i max, BlockState[] blocks) {
+        setBlocks(min, max, blocks, 0);
+    }
+
+    /**
+     * Sets the blocks of a region of this volume to the ones of an array,
+     * starting at the given offset. The blocks are ordered as described in
+     * {@link BlockVolume#getBlocks(Vector3i, Vector3i)}.
+     *
+     * <p>Implementations may override this to write whole sections of their
+     * storage at once, instead of looking up and transforming every position
+     * on its own.</p>
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @param blocks The new blocks
+     * @param offset The index of the first block in the array
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     * @throws IllegalArgumentException If the array is too small
+     */
+    default void setBlocks(Vector3i min, Vector3i max, BlockState[] blocks, int offset) {
+        BlockRegions.checkArray(blocks.length, offset, BlockRegions.checkRegion(this, min, max));
+        int i = offset;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    setBlock(x, y, z, blocks[i++]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the blocks of a region of this volume to the ones of a
+     * {@link PalettedStorage}. The blocks are ordered as described in
+     * {@link BlockVolume#getBlocks(Vector3i, Vector3i)}.
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @param blocks The new blocks
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     * @throws IllegalArgumentException If the storage is too small
+     */
+    default void setBlocks(Vector3i min, Vector3i max, PalettedStorage<BlockState> blocks) {
+        BlockRegions.checkArray(blocks.size(), 0, BlockRegions.checkRegion(this, min, max));
+        int i = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    setBlock(x, y, z, blocks.get(i++));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets every block of a region of this volume to the given one.
+     *
+     * @param min The lowest position of the region
+     * @param max The highest position of the region
+     * @param block The new block
+     * @throws PositionOutOfBoundsException If the region is outside of the
+     *         bounds of the volume
+     */
+    default void fillBlocks(Vector3i min, Vector3i max, BlockState block) {
+        BlockRegions.checkRegion(this, min, max);
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    setBlock(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the blocks of a region of another volume into this one. The
+     * lowest position of the source region is copied to the given position of
+     * this volume.
+     *
+     * <p>When the source is this volume itself, the source region is read
+     * completely before it is written, so the regions may overlap. This is
+     * not detected for other views of the same storage.</p>
+     *
+     * @param source The volume to copy the blocks from
+     * @param sourceMin The lowest position of the region in the source
+     * @param sourceMax The highest position of the region in the source
+     * @param destination The lowest position of the copy in this volume
+     * @throws PositionOutOfBoundsException If the source region is outside of
+     *         the source, or the copy is outside of this volume
+     */
+    default void copyBlocks(BlockVolume source, Vector3i sourceMin, Vector3i sourceMax, Vector3i destination) {
+        BlockRegions.checkRegion(source, sourceMin, sourceMax);
+        final Vector3i destinationMax = destination.add(sourceMax).sub(sourceMin);
+        if (source == this) {
+            setBlocks(destination, destinationMax, source.getBlocks(sourceMin, sourceMax));
+            return;
+        }
+        BlockRegions.checkRegion(this, destination, destinationMax);
+        final Vector3i offset = sourceMin.sub(destination);
+        for (int y = destination.getY(); y <= destinationMax.getY(); y++) {
+            for (int z = destination.getZ(); z <= destinationMax.getZ(); z++) {
+                for (int x = destination.getX(); x <= destinationMax.getX(); x++) {
+                    setBlock(x, y, z, source.getBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ()));
+                }
+            }
+        }
+    }
+
     /**
      * Returns a new volume that is the same or smaller than the current volume.
      * This does not copy the blocks, it only provides a new view of the
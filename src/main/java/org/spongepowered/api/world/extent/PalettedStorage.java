@@ -0,0 +1,287 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A fixed size array of values which stores each distinct value once in a
+ * palette, and the values of the array as indices into the palette. The
+ * indices are packed into longs using as few bits as the size of the palette
+ * allows, and are widened automatically when a new value no longer fits.
+ *
+ * <p>This is the storage used by each section of a {@link StorageType#PALETTED}
+ * block or biome buffer. A section holding a single value, such as air, uses
+ * no index storage at all. This class is not thread safe.</p>
+ *
+ * @param <T> The type of the stored values
+ */
+public final class PalettedStorage<T> {
+
+    private static final long[] NO_DATA = new long[0];
+    // Palettes up to this size are searched linearly, larger ones are indexed
+    private static final int LINEAR_SEARCH_LIMIT = 16;
+    // Approximate size in bytes of a palette entry: its array slot, hash map
+    // node and boxed index
+    private static final int PALETTE_ENTRY_SIZE = 48;
+
+    private final int size;
+    private Object[] palette;
+    private int paletteSize;
+    @Nullable private Map<Object, Integer> paletteIndices;
+    private int bits;
+    private int valuesPerLong;
+    private long mask;
+    private long[] data = NO_DATA;
+
+    /**
+     * Creates a new storage of the given size, with every value set to the
+     * given one.
+     *
+     * @param size The number of values in the storage
+     * @param value The initial value
+     */
+    public PalettedStorage(int size, T value) {
+        checkArgument(size >= 0, "size cannot be negative");
+        this.size = size;
+        this.palette = new Object[] {checkNotNull(value, "value")};
+        this.paletteSize = 1;
+    }
+
+    /**
+     * Gets the number of values in this storage.
+     *
+     * @return The size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the value at the index.
+     *
+     * @param index The index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException If the index is outside of the storage
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkElementIndex(index, this.size);
+        return (T) this.palette[readIndex(index)];
+    }
+
+    /**
+     * Sets the value at the index, adding it to the palette and widening the
+     * indices if needed.
+     *
+     * @param index The index of the value
+     * @param value The new value
+     * @throws IndexOutOfBoundsException If the index is outside of the storage
+     */
+    public void set(int index, T value) {
+        checkElementIndex(index, this.size);
+        checkNotNull(value, "value");
+        int paletteIndex = paletteIndexOf(value);
+        if (paletteIndex < 0) {
+            paletteIndex = addToPalette(value);
+        }
+        writeIndex(index, paletteIndex);
+    }
+
+    /**
+     * Sets every value of this storage to the given one, which also resets
+     * the palette and releases the index storage.
+     *
+     * @param value The new value
+     */
+    public void fill(T value) {
+        this.palette = new Object[] {checkNotNull(value, "value")};
+        this.paletteSize = 1;
+        this.paletteIndices = null;
+        this.bits = 0;
+        this.data = NO_DATA;
+    }
+
+    /**
+     * Gets the distinct values which have been stored. Values are not removed
+     * from the palette when they are overwritten, until {@link #trim()} is
+     * called.
+     *
+     * @return The values of the palette, in the order of their indices
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getPalette() {
+        return (List<T>) ImmutableList.copyOf(Arrays.asList(this.palette).subList(0, this.paletteSize));
+    }
+
+    /**
+     * Gets the number of bits used to store each index into the palette.
+     *
+     * @return The number of bits per value
+     */
+    public int getBitsPerValue() {
+        return this.bits;
+    }
+
+    /**
+     * Gets an estimate of the memory used by this storage, in bytes. This
+     * includes the packed indices and the palette entries, but not the values
+     * themselves, which are usually shared.
+     *
+     * @return The estimated memory usage
+     */
+    public long getMemoryUsage() {
+        return (long) this.data.length * Long.BYTES + (long) this.paletteSize * PALETTE_ENTRY_SIZE;
+    }
+
+    /**
+     * Removes the values which are no longer used from the palette and
+     * narrows the indices to the smallest width that fits the remaining
+     * values.
+     */
+    public void trim() {
+        final int[] remapped = new int[this.paletteSize];
+        Arrays.fill(remapped, -1);
+        final Object[] newPalette = new Object[this.paletteSize];
+        int newPaletteSize = 0;
+        final int[] indices = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            final int paletteIndex = readIndex(i);
+            if (remapped[paletteIndex] < 0) {
+                newPalette[newPaletteSize] = this.palette[paletteIndex];
+                remapped[paletteIndex] = newPaletteSize++;
+            }
+            indices[i] = remapped[paletteIndex];
+        }
+        if (newPaletteSize == 0) {
+            // Empty storage, keep the first value so that the palette is never empty
+            newPalette[newPaletteSize++] = this.palette[0];
+        }
+        this.palette = Arrays.copyOf(newPalette, newPaletteSize);
+        this.paletteSize = newPaletteSize;
+        this.paletteIndices = null;
+        if (newPaletteSize > LINEAR_SEARCH_LIMIT) {
+            indexPalette();
+        }
+        setBits(bitsFor(newPaletteSize));
+        for (int i = 0; i < this.size; i++) {
+            writeIndex(i, indices[i]);
+        }
+    }
+
+    private int paletteIndexOf(Object value) {
+        if (this.paletteIndices != null) {
+            final Integer index = this.paletteIndices.get(value);
+            return index == null ? -1 : index;
+        }
+        for (int i = 0; i < this.paletteSize; i++) {
+            if (this.palette[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int addToPalette(Object value) {
+        final int index = this.paletteSize;
+        if (index == 1 << this.bits) {
+            resize(this.bits + 1);
+        }
+        if (index == this.palette.length) {
+            this.palette = Arrays.copyOf(this.palette, Math.max(4, index * 2));
+        }
+        this.palette[index] = value;
+        this.paletteSize++;
+        if (this.paletteIndices != null) {
+            this.paletteIndices.put(value, index);
+        } else if (this.paletteSize > LINEAR_SEARCH_LIMIT) {
+            indexPalette();
+        }
+        return index;
+    }
+
+    private void indexPalette() {
+        this.paletteIndices = new HashMap<>();
+        for (int i = 0; i < this.paletteSize; i++) {
+            this.paletteIndices.put(this.palette[i], i);
+        }
+    }
+
+    private void resize(int bits) {
+        final int[] indices = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            indices[i] = readIndex(i);
+        }
+        setBits(bits);
+        for (int i = 0; i < this.size; i++) {
+            writeIndex(i, indices[i]);
+        }
+    }
+
+    private void setBits(int bits) {
+        this.bits = bits;
+        if (bits == 0) {
+            this.data = NO_DATA;
+            return;
+        }
+        // Indices never span two longs, which keeps reads to a single shift
+        this.valuesPerLong = Long.SIZE / bits;
+        this.mask = (1L << bits) - 1;
+        this.data = new long[(this.size + this.valuesPerLong - 1) / this.valuesPerLong];
+    }
+
+    private int readIndex(int index) {
+        if (this.bits == 0) {
+            return 0;
+        }
+        final int shift = index % this.valuesPerLong * this.bits;
+        return (int) (this.data[index / this.valuesPerLong] >>> shift & this.mask);
+    }
+
+    private void writeIndex(int index, int paletteIndex) {
+        if (this.bits == 0) {
+            return;
+        }
+        final int word = index / this.valuesPerLong;
+        final int shift = index % this.valuesPerLong * this.bits;
+        this.data[word] = this.data[word] & ~(this.mask << shift) | (long) paletteIndex << shift;
+    }
+
+    private static int bitsFor(int paletteSize) {
+        return paletteSize <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize - 1);
+    }
+
+}
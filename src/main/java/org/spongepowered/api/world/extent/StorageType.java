@@ -42,6 +42,20 @@ public enum StorageType {
      * for multi-threaded applications, but single threaded ones might suffer
      * for extra overhead.
      */
-    THREAD_SAFE
+    THREAD_SAFE,
+
+    /**
+     * A compact storage solution. Each section of 16 blocks or biomes on
+     * every axis stores the distinct values it contains in a palette, and the
+     * values themselves as indices into that palette, packed with as few bits
+     * as the size of the palette allows. The indices grow automatically as
+     * more distinct values are stored. Reads and writes are a bit slower than
+     * with {@link #STANDARD}, but large copies of mostly uniform areas use a
+     * fraction of the memory. Not guaranteed to provide anything but single
+     * threaded capabilities.
+     *
+     * @see PalettedStorage
+     */
+    PALETTED
 
 }
@@ -0,0 +1,623 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.scheduler.Scheduler;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.WorldBorder;
+import org.spongepowered.api.world.extent.BlockBatch;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.PalettedStorage;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A change to a large region of an {@link Extent} which is spread over
+ * several ticks to keep the server responsive. The region is split into
+ * slices of one chunk section each, and every tick slices are changed until
+ * the time budget of the tick is spent. The changed blocks of a slice are
+ * applied through a single {@link BlockBatch}.
+ *
+ * <p>Operations run on the main thread through the {@link Scheduler}. They
+ * report their progress, can be cancelled at any time, and can be undone
+ * when the previous blocks were captured.</p>
+ *
+ * @see #builder()
+ */
+public final class BlockOperation {
+
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Creates a new builder for a block operation.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Builder settings;
+    private final List<Runnable> slices;
+    @Nullable private final List<CapturedSlice> capturedSlices;
+    private volatile int completedSlices;
+    private volatile boolean cancelled;
+    private boolean undone;
+    @Nullable private Task task;
+
+    private BlockOperation(Builder settings, List<Runnable> slices, boolean captureUndo) {
+        this.settings = settings;
+        this.slices = slices;
+        this.capturedSlices = captureUndo ? new ArrayList<>(slices.size()) : null;
+    }
+
+    /**
+     * Gets the extent changed by this operation.
+     *
+     * @return The extent
+     */
+    public Extent getExtent() {
+        return this.settings.extent;
+    }
+
+    /**
+     * Gets the number of slices, of one chunk section each, changed so far.
+     *
+     * @return The number of completed slices
+     */
+    public int getCompletedSlices() {
+        return this.completedSlices;
+    }
+
+    /**
+     * Gets the total number of slices, of one chunk section each, changed by
+     * this operation.
+     *
+     * @return The number of slices
+     */
+    public int getSliceCount() {
+        return this.slices.size();
+    }
+
+    /**
+     * Gets the fraction of the slices changed so far, between 0 and 1.
+     *
+     * @return The progress of the operation
+     */
+    public double getProgress() {
+        return this.slices.isEmpty() ? 1 : (double) this.completedSlices / this.slices.size();
+    }
+
+    /**
+     * Gets whether every slice of this operation was changed.
+     *
+     * @return Whether or not the operation is done
+     */
+    public boolean isDone() {
+        return this.completedSlices == this.slices.size();
+    }
+
+    /**
+     * Gets whether this operation was cancelled before it was done.
+     *
+     * @return Whether or not the operation is cancelled
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Stops this operation. The slices already changed stay changed, and can
+     * be reverted with {@link #undo()}. This does nothing if the operation is
+     * already done.
+     */
+    public void cancel() {
+        if (this.cancelled || isDone()) {
+            return;
+        }
+        this.cancelled = true;
+        if (this.task != null) {
+            this.task.cancel();
+        }
+        complete();
+    }
+
+    /**
+     * Gets whether the blocks changed by this operation were captured, so that
+     * it can be undone.
+     *
+     * @return Whether or not the operation can be undone
+     */
+    public boolean canUndo() {
+        return this.capturedSlices != null && !this.undone;
+    }
+
+    /**
+     * Starts a new operation which restores the blocks changed by this one,
+     * one slice at a time in reverse order, with the same owner and tick
+     * limits but without the completion callback. This operation is
+     * cancelled first if it's still running. An operation can only be undone
+     * once.
+     *
+     * @return The operation restoring the blocks
+     * @throws IllegalStateException If the blocks weren't captured, or the
+     *         operation was already undone
+     */
+    public BlockOperation undo() {
+        checkState(this.capturedSlices != null, "The blocks changed by this operation weren't captured");
+        checkState(!this.undone, "The operation was already undone");
+        cancel();
+        this.undone = true;
+        final List<Runnable> slices = new ArrayList<>(this.capturedSlices.size());
+        for (int i = this.capturedSlices.size() - 1; i >= 0; i--) {
+            final CapturedSlice slice = this.capturedSlices.get(i);
+            slices.add(() -> restore(slice));
+        }
+        this.capturedSlices.clear();
+        final Builder settings = this.settings.copy();
+        settings.callback = null;
+        return new BlockOperation(settings, slices, false).start();
+    }
+
+    private BlockOperation start() {
+        this.task = Sponge.getScheduler().createTaskBuilder()
+                .name("BlockOperation-" + getExtent().getUniqueId())
+                .intervalTicks(this.settings.tickInterval)
+                .execute(this::tick)
+                .submit(this.settings.plugin);
+        return this;
+    }
+
+    private void tick(Task task) {
+        if (this.cancelled) {
+            task.cancel();
+            return;
+        }
+        final long start = System.nanoTime();
+        final long tickNanos = TimeUnit.MILLISECONDS.toNanos(Sponge.getScheduler().getPreferredTickInterval());
+        final long budget = this.settings.tickPercentLimit <= 0 ? 0 : (long) (this.settings.tickPercentLimit * tickNanos);
+        int count = 0;
+        // Like the chunk pre-generation, the budget is checked after each
+        // slice, so the time used will always be slightly above it
+        while (this.completedSlices < this.slices.size()) {
+            this.slices.get(this.completedSlices).run();
+            this.completedSlices++;
+            count++;
+            if (this.settings.slicesPerTick > 0 && count >= this.settings.slicesPerTick
+                    || budget > 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+        }
+        if (isDone()) {
+            task.cancel();
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (this.settings.callback != null) {
+            this.settings.callback.accept(this);
+        }
+    }
+
+    private Runnable slice(Vector3i min, Vector3i max, BlockVolumeMapper mapper) {
+        return () -> {
+            final Extent extent = getExtent();
+            final UnmodifiableBlockVolume view = extent.getBlockView(min, max).getUnmodifiableBlockView();
+            // The whole section is captured, a paletted storage is much
+            // smaller than a snapshot of every changed block
+            final PalettedStorage<BlockState> previous = this.capturedSlices == null ? null
+                    : new PalettedStorage<>(sizeOf(min, max), view.getBlock(min));
+            final BlockBatch batch = extent.newBlockBatch(this.settings.cause);
+            int i = 0;
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int x = min.getX(); x <= max.getX(); x++) {
+                        final BlockState current = view.getBlock(x, y, z);
+                        if (previous != null) {
+                            previous.set(i++, current);
+                        }
+                        final BlockState block = mapper.map(view, x, y, z);
+                        if (!block.equals(current)) {
+                            batch.setBlock(x, y, z, block);
+                        }
+                    }
+                }
+            }
+            // Nothing is captured if the event of the batch was cancelled
+            if (batch.size() > 0 && batch.apply() && previous != null) {
+                this.capturedSlices.add(new CapturedSlice(min, max, previous));
+            }
+        };
+    }
+
+    private void restore(CapturedSlice slice) {
+        final Extent extent = getExtent();
+        final BlockBatch batch = extent.newBlockBatch(this.settings.cause);
+        int i = 0;
+        for (int y = slice.min.getY(); y <= slice.max.getY(); y++) {
+            for (int z = slice.min.getZ(); z <= slice.max.getZ(); z++) {
+                for (int x = slice.min.getX(); x <= slice.max.getX(); x++) {
+                    final BlockState block = slice.blocks.get(i++);
+                    if (!block.equals(extent.getBlock(x, y, z))) {
+                        batch.setBlock(x, y, z, block);
+                    }
+                }
+            }
+        }
+        if (batch.size() > 0) {
+            batch.apply();
+        }
+    }
+
+    private static int sizeOf(Vector3i min, Vector3i max) {
+        return (max.getX() - min.getX() + 1) * (max.getY() - min.getY() + 1) * (max.getZ() - min.getZ() + 1);
+    }
+
+    /**
+     * The blocks of a slice before it was changed.
+     */
+    private static final class CapturedSlice {
+
+        final Vector3i min;
+        final Vector3i max;
+        final PalettedStorage<BlockState> blocks;
+
+        CapturedSlice(Vector3i min, Vector3i max, PalettedStorage<BlockState> blocks) {
+            this.min = min;
+            this.max = max;
+            this.blocks = blocks;
+        }
+
+    }
+
+    /**
+     * A builder for block operations.
+     *
+     * <p>The owner, the cause, the region and the change to apply are
+     * mandatory. The
+     * limits per tick work like the ones of
+     * {@link WorldBorder.ChunkPreGenerate}.</p>
+     */
+    public static final class Builder {
+
+        @Nullable private Object plugin;
+        @Nullable private Cause cause;
+        @Nullable private Extent extent;
+        @Nullable private Vector3i min;
+        @Nullable private Vector3i max;
+        @Nullable private BlockVolumeMapper mapper;
+        @Nullable private BlockVolume source;
+        @Nullable private Vector3i sourceMin;
+        private boolean captureUndo;
+        private int tickInterval = 1;
+        private int slicesPerTick;
+        private float tickPercentLimit = 0.15f;
+        @Nullable private Consumer<BlockOperation> callback;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the plugin owning the task of the operation.
+         *
+         * <p>Mandatory.</p>
+         *
+         * @param plugin The owner plugin
+         * @return This builder, for chaining
+         */
+        public Builder owner(Object plugin) {
+            this.plugin = checkNotNull(plugin, "plugin");
+            return this;
+        }
+
+        /**
+         * Sets the cause of the {@link ChangeBlockEvent}s thrown when the
+         * blocks are changed. The changed blocks of each slice are applied
+         * through a single {@link BlockBatch}, so one event is thrown per
+         * slice.
+         *
+         * <p>Mandatory.</p>
+         *
+         * @param cause The cause of the changes
+         * @return This builder, for chaining
+         */
+        public Builder cause(Cause cause) {
+            this.cause = checkNotNull(cause, "cause");
+            return this;
+        }
+
+        /**
+         * Sets the region changed by the operation.
+         *
+         * <p>Mandatory.</p>
+         *
+         * @param extent The extent to change
+         * @param min The lowest position of the region
+         * @param max The highest position of the region
+         * @return This builder, for chaining
+         * @throws PositionOutOfBoundsException If the region is outside of the
+         *         bounds of the extent
+         */
+        public Builder region(Extent extent, Vector3i min, Vector3i max) {
+            checkNotNull(extent, "extent");
+            checkArgument(min.getX() <= max.getX() && min.getY() <= max.getY() && min.getZ() <= max.getZ(),
+                    "The minimum %s is greater than the maximum %s", min, max);
+            checkContains(extent, min);
+            checkContains(extent, max);
+            this.extent = extent;
+            this.min = min;
+            this.max = max;
+            return this;
+        }
+
+        /**
+         * Sets every block of the region to the given one.
+         *
+         * @param block The new block
+         * @return This builder, for chaining
+         */
+        public Builder fill(BlockState block) {
+            checkNotNull(block, "block");
+            return map((volume, x, y, z) -> block);
+        }
+
+        /**
+         * Sets every block of the region to the one produced by the filler.
+         *
+         * @param filler The filler producing the new blocks
+         * @return This builder, for chaining
+         */
+        public Builder fill(BlockVolumeFiller filler) {
+            checkNotNull(filler, "filler");
+            return map((volume, x, y, z) -> filler.produce(x, y, z));
+        }
+
+        /**
+         * Replaces every occurrence of a block in the region by another one.
+         *
+         * @param block The block to replace
+         * @param replacement The new block
+         * @return This builder, for chaining
+         */
+        public Builder replace(BlockState block, BlockState replacement) {
+            checkNotNull(block, "block");
+            checkNotNull(replacement, "replacement");
+            return map((volume, x, y, z) -> {
+                final BlockState current = volume.getBlock(x, y, z);
+                return current.equals(block) ? replacement : current;
+            });
+        }
+
+        /**
+         * Copies the blocks of a volume into the region. The lowest position of
+         * the region receives the block at the given position of the source.
+         *
+         * <p>Unless the source is an {@link ImmutableBlockVolume}, the copied
+         * blocks are read when the operation starts, so changes made to the
+         * source while the operation runs don't affect it. This includes the
+         * changes made by the operation itself, when the source is the extent
+         * of the region and overlaps it.</p>
+         *
+         * @param source The volume to copy the blocks from
+         * @param sourceMin The position in the source of the first block
+         * @return This builder, for chaining
+         * @throws PositionOutOfBoundsException If the first copied block is
+         *         outside of the bounds of the source
+         */
+        public Builder copy(BlockVolume source, Vector3i sourceMin) {
+            checkNotNull(source, "source");
+            checkContains(source, sourceMin);
+            this.source = source;
+            this.sourceMin = sourceMin;
+            this.mapper = null;
+            return this;
+        }
+
+        /**
+         * Sets every block of the region to the one returned by the mapper.
+         * The mapper is given a view of the section containing the block,
+         * which isn't changed until the mapper was called for every block of
+         * the section.
+         *
+         * @param mapper The mapper producing the new blocks
+         * @return This builder, for chaining
+         */
+        public Builder map(BlockVolumeMapper mapper) {
+            this.mapper = checkNotNull(mapper, "mapper");
+            this.source = null;
+            this.sourceMin = null;
+            return this;
+        }
+
+        /**
+         * Sets whether the blocks are captured before being changed, which is
+         * required to {@link BlockOperation#undo()} the operation. Only the
+         * slices with blocks which actually change are captured, as a
+         * {@link PalettedStorage} of the whole slice.
+         *
+         * <p>Default is false.</p>
+         *
+         * @param captureUndo Whether or not to capture the changed blocks
+         * @return This builder, for chaining
+         */
+        public Builder captureUndo(boolean captureUndo) {
+            this.captureUndo = captureUndo;
+            return this;
+        }
+
+        /**
+         * Sets the interval between two runs of the operation, in ticks.
+         *
+         * <p>Must be greater than 0.</p>
+         *
+         * <p>Default is 1.</p>
+         *
+         * @param tickInterval The tick interval
+         * @return This builder, for chaining
+         */
+        public Builder tickInterval(int tickInterval) {
+            checkArgument(tickInterval > 0, "The tick interval must be greater than 0");
+            this.tickInterval = tickInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of slices, of one chunk section each, to
+         * change per run.
+         *
+         * <p>Use a value smaller or equal to 0 to disable.</p>
+         *
+         * <p>Default is disabled.</p>
+         *
+         * @param sliceCount The maximum number of slices per run
+         * @return This builder, for chaining
+         */
+        public Builder slicesPerTick(int sliceCount) {
+            this.slicesPerTick = sliceCount;
+            return this;
+        }
+
+        /**
+         * Sets the limit of tick time that can be used to change blocks as a
+         * percentage of {@link Scheduler#getPreferredTickInterval()}. The
+         * percentage should be a value in the range (0, 1]. No estimation is
+         * used to decide when to stop so the actual value will always be
+         * somewhere above the given percentage.
+         *
+         * <p>Use a value smaller or equal to 0 to disable.</p>
+         *
+         * <p>Default is 15%.</p>
+         *
+         * @param tickPercent The percentage of the tick time
+         * @return This builder, for chaining
+         */
+        public Builder tickPercentLimit(float tickPercent) {
+            this.tickPercentLimit = tickPercent;
+            return this;
+        }
+
+        /**
+         * Sets a callback run on the main thread once the operation is done or
+         * cancelled.
+         *
+         * <p>Optional.</p>
+         *
+         * @param callback The callback
+         * @return This builder, for chaining
+         */
+        public Builder onCompletion(@Nullable Consumer<BlockOperation> callback) {
+            this.callback = callback;
+            return this;
+        }
+
+        /**
+         * Schedules the operation with the {@link Scheduler}. The first slices
+         * are changed on the next tick.
+         *
+         * @return The running operation
+         * @throws IllegalStateException If a mandatory setting is missing, or
+         *         both limits per tick are disabled
+         * @throws PositionOutOfBoundsException If the copied blocks are outside
+         *         of the bounds of the source
+         */
+        public BlockOperation start() {
+            checkState(this.plugin != null, "The owner must be set");
+            checkState(this.cause != null, "The cause must be set");
+            checkState(this.extent != null && this.min != null && this.max != null, "The region must be set");
+            checkState(this.mapper != null || this.source != null, "The change to apply must be set");
+            checkState(this.slicesPerTick > 0 || this.tickPercentLimit > 0, "At least one limit per tick must be enabled");
+            final BlockVolumeMapper mapper = this.mapper != null ? this.mapper : copyMapper(this.source, this.sourceMin, this.min, this.max);
+            final Builder settings = copy();
+            final List<Runnable> slices = new ArrayList<>();
+            final BlockOperation operation = new BlockOperation(settings, slices, this.captureUndo);
+            // Slices are ordered by chunk, so that each chunk is done at once
+            for (int x = this.min.getX() >> 4; x <= this.max.getX() >> 4; x++) {
+                for (int z = this.min.getZ() >> 4; z <= this.max.getZ() >> 4; z++) {
+                    for (int y = this.min.getY() >> 4; y <= this.max.getY() >> 4; y++) {
+                        final Vector3i sliceMin = new Vector3i(x * SECTION_SIZE, y * SECTION_SIZE, z * SECTION_SIZE).max(this.min);
+                        final Vector3i sliceMax = new Vector3i(x * SECTION_SIZE + SECTION_SIZE - 1, y * SECTION_SIZE + SECTION_SIZE - 1,
+                                z * SECTION_SIZE + SECTION_SIZE - 1).min(this.max);
+                        slices.add(operation.slice(sliceMin, sliceMax, mapper));
+                    }
+                }
+            }
+            return operation.start();
+        }
+
+        private Builder copy() {
+            final Builder copy = new Builder();
+            copy.plugin = this.plugin;
+            copy.cause = this.cause;
+            copy.extent = this.extent;
+            copy.tickInterval = this.tickInterval;
+            copy.slicesPerTick = this.slicesPerTick;
+            copy.tickPercentLimit = this.tickPercentLimit;
+            copy.callback = this.callback;
+            return copy;
+        }
+
+        private static BlockVolumeMapper copyMapper(BlockVolume source, Vector3i sourceMin, Vector3i min, Vector3i max) {
+            final Vector3i sourceMax = sourceMin.add(max).sub(min);
+            checkContains(source, sourceMax);
+            final Vector3i offset = sourceMin.sub(min);
+            if (source instanceof ImmutableBlockVolume) {
+                return (volume, x, y, z) -> source.getBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ());
+            }
+            final PalettedStorage<BlockState> blocks = source.getPalettedBlocks(sourceMin, sourceMax);
+            final int sizeX = max.getX() - min.getX() + 1;
+            final int sizeZ = max.getZ() - min.getZ() + 1;
+            return (volume, x, y, z) -> blocks.get(((y - min.getY()) * sizeZ + z - min.getZ()) * sizeX + x - min.getX());
+        }
+
+        private static void checkContains(BlockVolume volume, Vector3i position) {
+            if (!volume.containsBlock(position)) {
+                throw new PositionOutOfBoundsException(position, volume.getBlockMin(), volume.getBlockMax());
+            }
+        }
+
+    }
+
+}
@@ -25,12 +25,17 @@
 package org.spongepowered.api.world.extent.worker;
 
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 
 /**
@@ -91,4 +96,42 @@
      */
     <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity);
 
+    /**
+     * Returns a worker for the same volume which performs its operations in
+     * parallel on the common {@link ForkJoinPool}.
+     *
+     * @return The parallel worker
+     * @see #parallel(Executor)
+     */
+    default BlockVolumeWorker<V> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a worker for the same volume which performs its operations in
+     * parallel on the given executor. The volume is split into sub-volumes
+     * aligned on chunk sections, which are processed concurrently.
+     *
+     * <p>All volumes involved in an operation are accessed from several
+     * threads at once, so they must be safe for concurrent use, such as an
+     * {@link ImmutableBlockVolume} or a buffer created with
+     * {@link StorageType#THREAD_SAFE}. An {@link Extent} may only be accessed
+     * from the main thread and is therefore rejected. The procedures passed
+     * to the operations are also called concurrently.</p>
+     *
+     * <p>The results of {@link #map} and {@link #merge} are the same as the
+     * ones of a sequential worker, as long as the procedures only depend on
+     * their arguments. When the destination is one of the source volumes,
+     * all blocks are computed before the first one is written, as if the
+     * source was copied first. The reductions of the sub-volumes are merged
+     * in a fixed order, so {@link #reduce} is deterministic as well.</p>
+     *
+     * @param executor The executor to run the operations on
+     * @return The parallel worker
+     * @throws IllegalStateException If the volume is an {@link Extent}
+     */
+    default BlockVolumeWorker<V> parallel(Executor executor) {
+        return new ParallelBlockVolumeWorker<>(getVolume(), executor);
+    }
+
 }
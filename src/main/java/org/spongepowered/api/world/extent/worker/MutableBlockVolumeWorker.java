@@ -30,6 +30,9 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Similar to {@link BlockVolumeWorker} but adds support for mutating the
  * backing volume.
@@ -71,4 +74,14 @@ default void merge(BlockVolume right, BlockVolumeMerger merger) {
      */
     void fill(BlockVolumeFiller filler);
 
+    @Override
+    default MutableBlockVolumeWorker<V> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    default MutableBlockVolumeWorker<V> parallel(Executor executor) {
+        return new ParallelMutableBlockVolumeWorker<>(getVolume(), executor);
+    }
+
 }
@@ -0,0 +1,258 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BlockVolumeWorker} which splits its volume into sub-volumes
+ * aligned on chunk sections and runs the operation on each of them on an
+ * {@link Executor}.
+ *
+ * @param <V> The type of volume being worked on
+ * @see BlockVolumeWorker#parallel(Executor)
+ */
+class ParallelBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
+
+    private static final int SECTION_SIZE = 16;
+
+    final V volume;
+    final Executor executor;
+    private final List<Vector3i[]> sections = new ArrayList<>();
+
+    ParallelBlockVolumeWorker(V volume, Executor executor) {
+        this.volume = checkNotNull(volume, "volume");
+        this.executor = checkNotNull(executor, "executor");
+        checkConcurrent(volume);
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++) {
+            for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++) {
+                for (int y = min.getY() >> 4; y <= max.getY() >> 4; y++) {
+                    this.sections.add(new Vector3i[] {
+                            new Vector3i(x * SECTION_SIZE, y * SECTION_SIZE, z * SECTION_SIZE).max(min),
+                            new Vector3i(x * SECTION_SIZE + SECTION_SIZE - 1, y * SECTION_SIZE + SECTION_SIZE - 1,
+                                    z * SECTION_SIZE + SECTION_SIZE - 1).min(max)
+                    });
+                }
+            }
+        }
+    }
+
+    static void checkConcurrent(BlockVolume volume) {
+        checkState(!(volume instanceof Extent), "An extent cannot be worked on in parallel, use a copy instead");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public BlockVolumeWorker<V> parallel(Executor executor) {
+        return executor == this.executor ? this : new ParallelBlockVolumeWorker<>(this.volume, executor);
+    }
+
+    @Override
+    public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+        checkConcurrent(destination);
+        final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+        final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+        if (destination != this.volume) {
+            forEachSection((min, max) -> {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    for (int z = min.getZ(); z <= max.getZ(); z++) {
+                        for (int y = min.getY(); y <= max.getY(); y++) {
+                            destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), mapper.map(unmodifiable, x, y, z));
+                        }
+                    }
+                }
+            });
+            return;
+        }
+        // Mapping in place: no block may be written before every block is
+        // mapped, or the result would depend on the order of the sections
+        final BlockState[][] results = new BlockState[this.sections.size()][];
+        forEachSection((index, min, max) -> {
+            final BlockState[] result = new BlockState[sizeOf(min, max)];
+            int i = 0;
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        result[i++] = mapper.map(unmodifiable, x, y, z);
+                    }
+                }
+            }
+            results[index] = result;
+        });
+        write(results, destination, offset);
+    }
+
+    @Override
+    public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination) {
+        checkConcurrent(second);
+        checkConcurrent(destination);
+        final UnmodifiableBlockVolume firstUnmodifiable = this.volume.getUnmodifiableBlockView();
+        final UnmodifiableBlockVolume secondUnmodifiable = second.getUnmodifiableBlockView();
+        final Vector3i secondOffset = second.getBlockMin().sub(this.volume.getBlockMin());
+        final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+        // Merging into one of the sources: no block may be written before
+        // every block is merged, see map
+        final BlockState[][] results = destination == this.volume || destination == second ? new BlockState[this.sections.size()][] : null;
+        forEachSection((index, min, max) -> {
+            final BlockState[] result = results == null ? null : new BlockState[sizeOf(min, max)];
+            int i = 0;
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        final BlockState block = merger.merge(firstUnmodifiable, x, y, z,
+                                secondUnmodifiable, x + secondOffset.getX(), y + secondOffset.getY(), z + secondOffset.getZ());
+                        if (result == null) {
+                            destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), block);
+                        } else {
+                            result[i++] = block;
+                        }
+                    }
+                }
+            }
+            if (results != null) {
+                results[index] = result;
+            }
+        });
+        if (results != null) {
+            write(results, destination, offset);
+        }
+    }
+
+    @Override
+    public void iterate(BlockVolumeVisitor<V> visitor) {
+        forEachSection((min, max) -> {
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        visitor.visit(this.volume, x, y, z);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+        @SuppressWarnings("unchecked")
+        final T[] reductions = (T[]) new Object[this.sections.size()];
+        forEachSection((index, min, max) -> {
+            T reduction = identity;
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        reduction = reducer.reduce(unmodifiable, x, y, z, reduction);
+                    }
+                }
+            }
+            reductions[index] = reduction;
+        });
+        // Merge in the order of the sections to keep the result deterministic
+        T reduction = identity;
+        for (T sectionReduction : reductions) {
+            reduction = merge.apply(reduction, sectionReduction);
+        }
+        return reduction;
+    }
+
+    void forEachSection(SectionOperation operation) {
+        forEachSection((index, min, max) -> operation.apply(min, max));
+    }
+
+    void forEachSection(IndexedSectionOperation operation) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[this.sections.size()];
+        for (int i = 0; i < futures.length; i++) {
+            final int index = i;
+            final Vector3i[] section = this.sections.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> operation.apply(index, section[0], section[1]), this.executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void write(BlockState[][] results, MutableBlockVolume destination, Vector3i offset) {
+        forEachSection((index, min, max) -> {
+            final BlockState[] result = results[index];
+            int i = 0;
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), result[i++]);
+                    }
+                }
+            }
+        });
+    }
+
+    private static int sizeOf(Vector3i min, Vector3i max) {
+        return (max.getX() - min.getX() + 1) * (max.getY() - min.getY() + 1) * (max.getZ() - min.getZ() + 1);
+    }
+
+    @FunctionalInterface
+    interface SectionOperation {
+
+        void apply(Vector3i min, Vector3i max);
+
+    }
+
+    @FunctionalInterface
+    interface IndexedSectionOperation {
+
+        void apply(int index, Vector3i min, Vector3i max);
+
+    }
+
+}
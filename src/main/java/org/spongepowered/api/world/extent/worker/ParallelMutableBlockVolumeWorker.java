@@ -0,0 +1,63 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link MutableBlockVolumeWorker} which runs its operations in parallel.
+ *
+ * @param <V> The type of volume being worked on
+ * @see ParallelBlockVolumeWorker
+ */
+class ParallelMutableBlockVolumeWorker<V extends MutableBlockVolume> extends ParallelBlockVolumeWorker<V>
+        implements MutableBlockVolumeWorker<V> {
+
+    ParallelMutableBlockVolumeWorker(V volume, Executor executor) {
+        super(volume, executor);
+    }
+
+    @Override
+    public void fill(BlockVolumeFiller filler) {
+        forEachSection((min, max) -> {
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        this.volume.setBlock(x, y, z, filler.produce(x, y, z));
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public MutableBlockVolumeWorker<V> parallel(Executor executor) {
+        return executor == this.executor ? this : new ParallelMutableBlockVolumeWorker<>(this.volume, executor);
+    }
+
+}
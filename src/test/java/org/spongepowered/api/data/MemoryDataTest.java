@@ -217,6 +217,16 @@ public void testLists() {
         assertTrue(queriedList.equals(list));
     }
 
+    @Test
+    public void testWriteTo() {
+        SimpleData data = new SimpleData(1, 2.0, "foo", ImmutableList.of("bar"));
+        DataContainer container = new MemoryDataContainer();
+        DataView view = container.createView(of("data"));
+        assertTrue(data.writeTo(view) == view);
+        assertTrue(container.getInt(of("data", "myInt")).get() == 1);
+        assertTrue(view.getStringList(of("myStringList")).get().equals(ImmutableList.of("bar")));
+    }
+
     @Test
     public void testEmptyQuery() {
         DataContainer container = new MemoryDataContainer();
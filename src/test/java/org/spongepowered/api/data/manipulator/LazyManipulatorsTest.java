@@ -0,0 +1,68 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.manipulator.immutable.ImmutableDisplayNameData;
+import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableHealthData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyManipulatorsTest {
+
+    @Test
+    public void testMaterializedOnce() {
+        final ImmutableHealthData health = mock(ImmutableHealthData.class);
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyManipulators manipulators = LazyManipulators.of(() -> {
+            calls.incrementAndGet();
+            return ImmutableList.of(health);
+        });
+        assertFalse(manipulators.isMaterialized());
+        assertEquals(0, calls.get());
+
+        assertSame(health, manipulators.get(ImmutableHealthData.class).get());
+        assertFalse(manipulators.get(ImmutableDisplayNameData.class).isPresent());
+        assertEquals(ImmutableList.of(health), manipulators.get());
+        assertTrue(manipulators.isMaterialized());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testOfMaterialized() {
+        final ImmutableHealthData health = mock(ImmutableHealthData.class);
+        final LazyManipulators manipulators = LazyManipulators.ofMaterialized(ImmutableList.of(health));
+        assertTrue(manipulators.isMaterialized());
+        assertEquals(ImmutableList.of(health), manipulators.get());
+    }
+
+}
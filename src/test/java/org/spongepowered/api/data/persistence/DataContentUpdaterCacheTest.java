@@ -0,0 +1,96 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+public class DataContentUpdaterCacheTest {
+
+    private static final DataQuery STEPS = DataQuery.of("Steps");
+
+    private static DataContentUpdater updater(int from, int to) {
+        return new DataContentUpdater() {
+            @Override
+            public int getInputVersion() {
+                return from;
+            }
+
+            @Override
+            public int getOutputVersion() {
+                return to;
+            }
+
+            @Override
+            public DataView update(DataView content) {
+                return content.set(STEPS, content.getString(STEPS).orElse("") + from + ">" + to + ";");
+            }
+        };
+    }
+
+    @Test
+    public void testChainIsResolvedOnce() {
+        final DataContentUpdaterCache cache = new DataContentUpdaterCache();
+        cache.register(String.class, updater(1, 2));
+        cache.register(String.class, updater(2, 3));
+        cache.register(String.class, updater(2, 4));
+        cache.register(String.class, updater(3, 5));
+
+        final DataContentUpdater chain = cache.get(String.class, 1, 5).get();
+        assertSame(chain, cache.get(String.class, 1, 5).get());
+        assertEquals(1, chain.getInputVersion());
+        assertEquals(5, chain.getOutputVersion());
+        assertEquals("1>2;2>3;3>5;", chain.update(new MemoryDataContainer()).getString(STEPS).get());
+        assertEquals("1>2;2>4;", cache.get(String.class, 1, 4).get().update(new MemoryDataContainer()).getString(STEPS).get());
+    }
+
+    @Test
+    public void testMissingStep() {
+        final DataContentUpdaterCache cache = new DataContentUpdaterCache();
+        cache.register(String.class, updater(1, 2));
+        assertFalse(cache.get(String.class, 1, 3).isPresent());
+        assertFalse(cache.get(Integer.class, 1, 2).isPresent());
+    }
+
+    @Test
+    public void testRegisterDropsChains() {
+        final DataContentUpdaterCache cache = new DataContentUpdaterCache();
+        cache.register(String.class, updater(1, 2));
+        cache.register(String.class, updater(2, 3));
+        final DataContentUpdater chain = cache.get(String.class, 1, 3).get();
+        cache.register(String.class, updater(1, 3));
+        final DataContentUpdater direct = cache.get(String.class, 1, 3).get();
+        assertNotSame(chain, direct);
+        assertEquals("1>3;", direct.update(new MemoryDataContainer()).getString(STEPS).get());
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.KeyFactory;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+public class DenseValueContainerTest {
+
+    private static final Key<Value<Integer>> FIRST = KeyFactory.makeSingleKey(Integer.class, Value.class, DataQuery.of("First"));
+    private static final Key<Value<String>> SECOND = KeyFactory.makeSingleKey(String.class, Value.class, DataQuery.of("Second"));
+
+    @SuppressWarnings("unchecked")
+    private static <E> Value<E> value(Key<Value<E>> key, E element) {
+        final Value<E> value = mock(Value.class);
+        doReturn(key).when(value).getKey();
+        when(value.get()).thenReturn(element);
+        return value;
+    }
+
+    @Test
+    public void testFactoryKeys() {
+        final Key<Value<Integer>> other = KeyFactory.makeSingleKey(Integer.class, Value.class, DataQuery.of("First"));
+        assertNotEquals(FIRST.getOrdinal(), SECOND.getOrdinal());
+        assertNotEquals(FIRST.getOrdinal(), other.getOrdinal());
+        assertEquals(FIRST.hashCode(), other.hashCode());
+        assertFalse(FIRST.equals(other));
+        assertEquals(FIRST.getOrdinal(), FIRST.getOrdinal());
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final DenseValueContainer container = new DenseValueContainer();
+        assertFalse(container.supports(FIRST));
+        assertEquals(Optional.empty(), container.get(FIRST));
+
+        final Value<Integer> first = value(FIRST, 5);
+        assertFalse(container.put(first).isPresent());
+        assertTrue(container.supports(FIRST));
+        assertFalse(container.supports(SECOND));
+        assertEquals(Optional.of(5), container.get(FIRST));
+        assertSame(first, container.getValue(FIRST).get());
+        assertEquals("default", container.getOrElse(SECOND, "default"));
+
+        final Value<Integer> replaced = value(FIRST, 7);
+        assertSame(first, container.put(replaced).get());
+        assertEquals(1, container.size());
+        assertEquals(Integer.valueOf(7), container.getOrNull(FIRST));
+    }
+
+    @Test
+    public void testRemoveAndCopy() {
+        final DenseValueContainer container = new DenseValueContainer();
+        container.put(value(FIRST, 5));
+        container.put(value(SECOND, "text"));
+        assertEquals(ImmutableSet.of(FIRST, SECOND), container.getKeys());
+
+        final DenseValueContainer copy = container.copy();
+        assertTrue(container.remove(FIRST).isPresent());
+        assertFalse(container.remove(FIRST).isPresent());
+        assertFalse(container.supports(FIRST));
+        assertEquals(1, container.size());
+
+        assertTrue(copy.supports(FIRST));
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void testPrimitiveGetters() {
+        final DenseValueContainer container = new DenseValueContainer();
+        assertEquals(3, container.getInt(FIRST, 3));
+        assertFalse(container.getInt(FIRST).isPresent());
+        container.put(value(FIRST, 5));
+        assertEquals(5, container.getInt(FIRST, 3));
+        assertEquals(5, container.getInt(FIRST).getAsInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testValuesAreImmutable() {
+        final ImmutableValue<Integer> immutable = mock(ImmutableValue.class);
+        final Value<Integer> first = value(FIRST, 5);
+        when(first.asImmutable()).thenReturn(immutable);
+        final DenseValueContainer container = new DenseValueContainer();
+        container.put(first);
+        assertEquals(ImmutableSet.of(immutable), container.getValues());
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.KeyFactory;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ImmutableValueCacheTest {
+
+    private static final Key<Value<Boolean>> FLAG = KeyFactory.makeSingleKey(Boolean.class, Value.class, DataQuery.of("Flag"));
+    private static final Key<Value<Integer>> LEVEL = KeyFactory.makeSingleKey(Integer.class, Value.class, DataQuery.of("Level"));
+
+    @SuppressWarnings("unchecked")
+    private static ValueFactory factory() {
+        final ValueFactory factory = mock(ValueFactory.class);
+        when(factory.createValue(any(Key.class), any(), any())).thenAnswer(invocation -> {
+            final Value<Object> value = mock(Value.class);
+            when(value.asImmutable()).thenReturn(mock(ImmutableValue.class));
+            return value;
+        });
+        return factory;
+    }
+
+    @Test
+    public void testBooleansAreCached() {
+        final ValueFactory factory = factory();
+        final ImmutableValue<Boolean> value = ImmutableValueCache.getBoolean(factory, FLAG, true, false);
+        assertSame(value, ImmutableValueCache.getBoolean(factory, FLAG, true, false));
+        assertNotSame(value, ImmutableValueCache.getBoolean(factory, FLAG, false, false));
+    }
+
+    @Test
+    public void testSmallIntsAreCached() {
+        final ValueFactory factory = factory();
+        final ImmutableValue<Integer> value = ImmutableValueCache.getInt(factory, LEVEL, 20, 20);
+        assertSame(value, ImmutableValueCache.getInt(factory, LEVEL, 20, 20));
+        assertNotSame(value, ImmutableValueCache.getInt(factory, LEVEL, 19, 20));
+        assertNotSame(ImmutableValueCache.getInt(factory, LEVEL, 1000, 20), ImmutableValueCache.getInt(factory, LEVEL, 1000, 20));
+    }
+
+    @Test
+    public void testCachedPerFactory() {
+        final ValueFactory factory = factory();
+        final ValueFactory other = factory();
+        assertNotSame(ImmutableValueCache.getBoolean(factory, FLAG, true, true), ImmutableValueCache.getBoolean(other, FLAG, true, true));
+        assertNotSame(ImmutableValueCache.getInt(factory, LEVEL, 5, 0), ImmutableValueCache.getInt(other, LEVEL, 5, 0));
+    }
+
+    @Test
+    public void testConcurrentReadsShareValues() throws Exception {
+        final ValueFactory factory = factory();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<ImmutableValue<Integer>>> values = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                values.add(executor.submit(() -> ImmutableValueCache.getInt(factory, LEVEL, 42, 0)));
+            }
+            final ImmutableValue<Integer> value = values.get(0).get();
+            for (Future<ImmutableValue<Integer>> future : values) {
+                assertSame(value, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.KeyFactory;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+public class ValueLookupTest {
+
+    private static final Key<Value<Double>> HEALTH = KeyFactory.makeSingleKey(Double.class, Value.class, DataQuery.of("Health"));
+    private static final Key<Value<Integer>> FOOD = KeyFactory.makeSingleKey(Integer.class, Value.class, DataQuery.of("Food"));
+    private static final Key<Value<String>> NAME = KeyFactory.makeSingleKey(String.class, Value.class, DataQuery.of("Name"));
+
+    @Test
+    public void testReadElements() {
+        final ValueLookup lookup = new ValueLookup(HEALTH, FOOD, NAME);
+        assertEquals(3, lookup.size());
+        assertEquals(1, lookup.indexOf(FOOD));
+        lookup.set(0, 17.5);
+        lookup.set(2, "name");
+
+        assertEquals(17.5, lookup.getDouble(HEALTH, 0), 0);
+        assertEquals(20, lookup.getInt(FOOD, 20));
+        assertFalse(lookup.isPresent(FOOD));
+        assertEquals(Optional.of("name"), lookup.get(NAME));
+        assertEquals("name", lookup.getOrNull(2));
+    }
+
+    @Test
+    public void testReuse() {
+        final ValueLookup lookup = new ValueLookup(HEALTH, FOOD);
+        lookup.set(1, 5);
+        assertTrue(lookup.isPresent(1));
+        lookup.clear();
+        assertNull(lookup.getOrNull(FOOD));
+        lookup.set(1, 6);
+        assertEquals(6, lookup.getInt(FOOD, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownKey() {
+        new ValueLookup(HEALTH).getOrNull(FOOD);
+    }
+
+}
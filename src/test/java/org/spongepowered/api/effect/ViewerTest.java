@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.effect;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.spongepowered.api.effect.particle.ParticleEffect;
+import org.spongepowered.api.effect.sound.SoundType;
+import org.spongepowered.api.util.test.TestStubs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ViewerTest {
+
+    private static final double[] POSITIONS = {1, 2, 3, -4.5, 5.5, 6, 7, 8, 9.25};
+    private static final List<Vector3d> VECTORS = ImmutableList.of(new Vector3d(1, 2, 3), new Vector3d(-4.5, 5.5, 6), new Vector3d(7, 8, 9.25));
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private final ParticleEffect particleEffect = mock(ParticleEffect.class);
+    private final SoundType sound = mock(SoundType.class);
+    private final List<List<Object>> calls = new ArrayList<>();
+    // Records the calls to the methods for single positions
+    private final Viewer viewer = TestStubs.stub(Viewer.class, ImmutableMap.of(
+            "spawnParticles", (proxy, args) -> this.calls.add(Arrays.asList(args)),
+            "playSound", (proxy, args) -> this.calls.add(Arrays.asList(args))));
+
+    @Test
+    public void testSpawnParticlesAtPositions() {
+        this.viewer.spawnParticles(this.particleEffect, POSITIONS);
+        final List<List<Object>> expected = new ArrayList<>();
+        for (Vector3d position : VECTORS) {
+            expected.add(Arrays.asList(this.particleEffect, position));
+        }
+        assertEquals(expected, this.calls);
+    }
+
+    @Test
+    public void testSpawnParticlesAtPositionsWithRadius() {
+        this.viewer.spawnParticles(this.particleEffect, POSITIONS, 16);
+        final List<List<Object>> expected = new ArrayList<>();
+        for (Vector3d position : VECTORS) {
+            expected.add(Arrays.asList(this.particleEffect, position, 16));
+        }
+        assertEquals(expected, this.calls);
+    }
+
+    @Test
+    public void testPlaySoundAtPositions() {
+        this.viewer.playSound(this.sound, POSITIONS, 0.5, 2);
+        final List<List<Object>> expected = new ArrayList<>();
+        for (Vector3d position : VECTORS) {
+            expected.add(Arrays.asList(this.sound, position, 0.5, 2.0));
+        }
+        assertEquals(expected, this.calls);
+    }
+
+    @Test
+    public void testNoPositions() {
+        this.viewer.spawnParticles(this.particleEffect, new double[0]);
+        this.viewer.spawnParticles(this.particleEffect, new double[0], 16);
+        this.viewer.playSound(this.sound, new double[0], 1, 1);
+        assertEquals(0, this.calls.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpawnParticlesRejectsIncompleteTriples() {
+        this.viewer.spawnParticles(this.particleEffect, new double[] {1, 2, 3, 4});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpawnParticlesWithRadiusRejectsIncompleteTriples() {
+        this.viewer.spawnParticles(this.particleEffect, new double[] {1, 2}, 16);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlaySoundRejectsIncompleteTriples() {
+        this.viewer.playSound(this.sound, new double[] {1, 2, 3, 4, 5}, 1, 1);
+    }
+
+    @Test
+    public void testSpawnParticlesRejectsNullPositions() {
+        this.thrown.expect(NullPointerException.class);
+        this.thrown.expectMessage("positions");
+        this.viewer.spawnParticles(this.particleEffect, (double[]) null);
+    }
+
+    @Test
+    public void testSpawnParticlesWithRadiusRejectsNullPositions() {
+        this.thrown.expect(NullPointerException.class);
+        this.thrown.expectMessage("positions");
+        this.viewer.spawnParticles(this.particleEffect, (double[]) null, 16);
+    }
+
+    @Test
+    public void testPlaySoundRejectsNullPositions() {
+        this.thrown.expect(NullPointerException.class);
+        this.thrown.expectMessage("positions");
+        this.viewer.playSound(this.sound, (double[]) null, 1, 1);
+    }
+
+}
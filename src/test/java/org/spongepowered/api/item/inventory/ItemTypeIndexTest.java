@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.item.ItemType;
+
+import java.util.BitSet;
+
+public class ItemTypeIndexTest {
+
+    private final ItemType stone = mock(ItemType.class);
+    private final ItemType dirt = mock(ItemType.class);
+
+    @Test
+    public void testSetAndReplace() {
+        final ItemTypeIndex index = new ItemTypeIndex(54);
+        index.set(3, this.stone, 64);
+        index.set(40, this.stone, 10);
+        index.set(7, this.dirt, 5);
+
+        assertTrue(index.contains(this.stone));
+        assertEquals(79, index.totalItems());
+        assertEquals(74, index.totalItems(this.stone));
+        assertEquals(3, index.size());
+        assertEquals(3, index.nextSlot(this.stone, 0));
+        assertEquals(40, index.nextSlot(this.stone, 4));
+        assertEquals(-1, index.nextSlot(this.stone, 41));
+
+        index.set(3, this.stone, 32);
+        assertEquals(42, index.totalItems(this.stone));
+        index.set(40, this.dirt, 1);
+        index.set(3, null, 0);
+        assertFalse(index.contains(this.stone));
+        assertEquals(-1, index.nextSlot(this.stone, 0));
+
+        final BitSet dirtSlots = new BitSet();
+        dirtSlots.set(7);
+        dirtSlots.set(40);
+        assertEquals(dirtSlots, index.getSlots(this.dirt));
+        assertEquals(6, index.totalItems());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testClear() {
+        final ItemTypeIndex index = new ItemTypeIndex(9);
+        index.set(0, this.stone, 1);
+        index.clear();
+        assertFalse(index.contains(this.stone));
+        assertEquals(0, index.totalItems());
+        assertEquals(0, index.size());
+    }
+
+}
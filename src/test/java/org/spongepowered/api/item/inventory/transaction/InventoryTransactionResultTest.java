@@ -0,0 +1,63 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.item.inventory.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+public class InventoryTransactionResultTest {
+
+    @Test
+    public void testAbsorbResult() {
+        ItemStack rejected = mock(ItemStack.class);
+        ItemStackSnapshot rejectedSnapshot = mock(ItemStackSnapshot.class);
+        when(rejected.createSnapshot()).thenReturn(rejectedSnapshot);
+        ItemStack replaced = mock(ItemStack.class);
+        ItemStackSnapshot replacedSnapshot = mock(ItemStackSnapshot.class);
+        when(replaced.createSnapshot()).thenReturn(replacedSnapshot);
+        InventoryTransactionResult failure = InventoryTransactionResult.builder()
+                .type(InventoryTransactionResult.Type.FAILURE).reject(rejected).build();
+        InventoryTransactionResult error = InventoryTransactionResult.builder()
+                .type(InventoryTransactionResult.Type.ERROR).replace(replaced).build();
+
+        InventoryTransactionResult result = InventoryTransactionResult.builder()
+                .type(InventoryTransactionResult.Type.SUCCESS)
+                .absorbResult(InventoryTransactionResult.successNoTransactions())
+                .absorbResult(failure)
+                .absorbResult(error)
+                .build();
+        // The first type other than success is kept
+        assertEquals(InventoryTransactionResult.Type.FAILURE, result.getType());
+        assertEquals(ImmutableList.of(rejectedSnapshot), ImmutableList.copyOf(result.getRejectedItems()));
+        assertEquals(ImmutableList.of(replacedSnapshot), ImmutableList.copyOf(result.getReplacedItems()));
+    }
+
+}
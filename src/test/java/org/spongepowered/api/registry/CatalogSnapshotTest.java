@@ -0,0 +1,94 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.CatalogType;
+
+public class CatalogSnapshotTest {
+
+    private static CatalogType type(String id) {
+        final CatalogType type = mock(CatalogType.class);
+        when(type.getId()).thenReturn(id);
+        return type;
+    }
+
+    @Test
+    public void testLookup() {
+        final CatalogType stone = type("minecraft:stone");
+        final CatalogType dirt = type("minecraft:dirt");
+        final CatalogSnapshot<CatalogType> snapshot = CatalogSnapshot.of(CatalogType.class, ImmutableList.of(stone, dirt));
+
+        assertSame(dirt, snapshot.getType("Minecraft:DIRT").get());
+        assertFalse(snapshot.getType("minecraft:air").isPresent());
+        assertEquals(1, snapshot.getOrdinal(dirt));
+        assertSame(stone, snapshot.getType(0));
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:dirt"), snapshot.getIds());
+        assertSame(snapshot.getAll(), snapshot.getAll());
+    }
+
+    @Test
+    public void testWithKeepsOrdinals() {
+        final CatalogType stone = type("minecraft:stone");
+        final CatalogType custom = type("plugin:custom");
+        final CatalogSnapshot<CatalogType> snapshot = CatalogSnapshot.of(CatalogType.class, ImmutableList.of(stone));
+        final CatalogSnapshot<CatalogType> next = snapshot.with(ImmutableList.of(custom));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, next.size());
+        assertEquals(0, next.getOrdinal(stone));
+        assertEquals(1, next.getOrdinal(custom));
+    }
+
+    @Test
+    public void testDuplicateInstances() {
+        final CatalogType stone = type("minecraft:stone");
+        final CatalogType dirt = type("minecraft:dirt");
+        final CatalogSnapshot<CatalogType> snapshot = CatalogSnapshot.of(CatalogType.class, ImmutableList.of(stone, dirt, stone));
+
+        assertEquals(ImmutableList.of(stone, dirt), snapshot.getAll());
+        assertEquals(0, snapshot.getOrdinal(stone));
+        assertEquals(ImmutableList.of(stone, dirt), snapshot.with(ImmutableList.of(dirt)).getAll());
+    }
+
+    @Test
+    public void testFirstOfCaseInsensitiveIdsWins() {
+        final CatalogType stone = type("minecraft:stone");
+        final CatalogType upper = type("MINECRAFT:STONE");
+        final CatalogSnapshot<CatalogType> snapshot = CatalogSnapshot.of(CatalogType.class, ImmutableList.of(stone, upper));
+
+        assertEquals(ImmutableList.of(stone), snapshot.getAll());
+        assertSame(stone, snapshot.getType("Minecraft:Stone").get());
+        assertEquals(1, snapshot.with(ImmutableList.of(upper)).size());
+    }
+
+}
@@ -102,6 +102,22 @@ public void testGetProviderRegistration() {
         assertEquals(testPluginContainer, registration.getPlugin());
     }
 
+    @Test
+    public void testReferenceFollowsProvider() {
+        PowerMockito.mockStatic(Sponge.class);
+        PowerMockito.when(Sponge.getEventManager()).thenReturn(testEventManager);
+
+        SimpleServiceManager serviceManager = new SimpleServiceManager(manager);
+        ServiceReference<TestInterface> reference = serviceManager.getReference(TestInterface.class);
+        assertFalse(reference.isPresent());
+
+        serviceManager.setProvider(testPlugin, TestInterface.class, new TestImplCow());
+        assertEquals("moo", reference.getUnchecked().bark());
+        serviceManager.setProvider(testPlugin, TestInterface.class, new TestImplDog());
+        assertEquals("woof", reference.getUnchecked().bark());
+        assertTrue(reference == serviceManager.getReference(TestInterface.class));
+    }
+
     public interface TestInterface {
 
         String bark();
@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompiledTextTemplateTest {
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
+    @Test
+    public void testSlotsFollowFirstOccurrence() {
+        TextTemplate template = TextTemplate.of("<", TextTemplate.arg("name"), "> ", TextTemplate.arg("message"), TextTemplate.arg("name"));
+        CompiledTextTemplate compiled = template.compile();
+        assertThat(compiled.getArgumentNames().size(), is(2));
+        assertThat(compiled.indexOf("name"), is(0));
+        assertThat(compiled.indexOf("message"), is(1));
+        assertThat(compiled.indexOf("missing"), is(-1));
+    }
+
+    @Test
+    public void testApplyMatchesTemplate() {
+        TextTemplate template = TextTemplate.of("<", TextTemplate.arg("name"), "> ", TextTemplate.arg("message"));
+        Text name = Text.of("Notch");
+        Text message = Text.of("Hello");
+        Text expected = template.apply(ImmutableMap.of("name", name, "message", message)).build();
+        assertThat(template.compile().apply(name, message).build(), is(expected));
+        assertThat(template.compile().apply(ImmutableMap.of("name", name, "message", message)).build(), is(expected));
+        assertThat(template.compile().apply(name, message).build().toPlain(), is("<Notch> Hello"));
+    }
+
+    @Test
+    public void testOptionalDefault() {
+        TextTemplate template = TextTemplate.of(TextTemplate.arg("prefix").optional().defaultValue(Text.of("[x]")), "text");
+        Text expected = template.apply().build();
+        assertThat(template.compile().apply().build(), is(expected));
+        assertThat(template.compile().apply(new TextElement[] {null}).build().toPlain(), is("[x]text"));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingRequired() {
+        TextTemplate.of(TextTemplate.arg("name"), "text").compile().apply();
+    }
+
+    @Test
+    public void testSerialize() {
+        TextTemplate template = TextTemplate.of("Hello ", TextTemplate.arg("name"));
+        assertThat(template.compile().serialize(new TestPlainTextSerializer(), Text.of("World")), is("Hello World"));
+    }
+
+}
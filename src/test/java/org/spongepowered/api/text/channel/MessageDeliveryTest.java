@@ -0,0 +1,79 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.source.ConsoleSource;
+import org.spongepowered.api.entity.living.player.Player;
+
+import java.util.Collection;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Sponge.class)
+public class MessageDeliveryTest {
+
+    @Test
+    public void testMembersFollowInvalidation() throws Exception {
+        Player alice = mock(Player.class);
+        Player bob = mock(Player.class);
+        ConsoleSource console = mock(ConsoleSource.class);
+        Server server = mock(Server.class);
+        when(server.getOnlinePlayers()).thenReturn(ImmutableList.of(alice));
+        when(server.getConsole()).thenReturn(console);
+        PowerMockito.mockStatic(Sponge.class);
+        PowerMockito.when(Sponge.getServer()).thenReturn(server);
+        MessageChannel.invalidateOnlinePlayers();
+
+        Collection<MessageReceiver> players = MessageChannel.TO_PLAYERS.getMembers();
+        assertEquals(ImmutableSet.of(alice), players);
+        // Returning a different collection doesn't invalidate the cache
+        when(server.getOnlinePlayers()).thenReturn(ImmutableList.of(alice, bob));
+        assertSame(players, MessageChannel.TO_PLAYERS.getMembers());
+        assertEquals(ImmutableSet.of(alice, console), MessageChannel.TO_ALL.getMembers());
+
+        MessageChannel.invalidateOnlinePlayers();
+        assertEquals(ImmutableSet.of(alice, bob), MessageChannel.TO_PLAYERS.getMembers());
+        assertEquals(ImmutableSet.of(alice, bob, console), MessageChannel.TO_ALL.getMembers());
+
+        when(server.getOnlinePlayers()).thenReturn(ImmutableList.of(bob));
+        MessageChannel.invalidateOnlinePlayers();
+        assertEquals(ImmutableSet.of(bob), MessageChannel.TO_PLAYERS.getMembers());
+        assertEquals(ImmutableSet.of(bob, console), MessageChannel.TO_ALL.getMembers());
+    }
+
+}
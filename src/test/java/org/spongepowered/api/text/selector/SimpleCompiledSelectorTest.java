@@ -0,0 +1,243 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.source.LocatedSource;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class SimpleCompiledSelectorTest {
+
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> X = mock(ArgumentType.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> Y = mock(ArgumentType.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> Z = mock(ArgumentType.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> MIN_RADIUS = mock(ArgumentType.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> MAX_RADIUS = mock(ArgumentType.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType.Invertible<EntityType> ENTITY_TYPE = mock(ArgumentType.Invertible.class);
+    @SuppressWarnings("unchecked")
+    private static final ArgumentType<Integer> COUNT = mock(ArgumentType.class);
+
+    private final World world = mock(World.class);
+
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpArgumentTypes() throws ReflectiveOperationException {
+        final ArgumentHolder.Vector3<?, Integer> position = mock(ArgumentHolder.Vector3.class);
+        when(position.x()).thenReturn(X);
+        when(position.y()).thenReturn(Y);
+        when(position.z()).thenReturn(Z);
+        when(position.getTypes()).thenReturn(ImmutableSet.of(X, Y, Z));
+        final ArgumentHolder.Limit<ArgumentType<Integer>> radius = mock(ArgumentHolder.Limit.class);
+        when(radius.minimum()).thenReturn(MIN_RADIUS);
+        when(radius.maximum()).thenReturn(MAX_RADIUS);
+        when(radius.getTypes()).thenReturn(ImmutableSet.of(MIN_RADIUS, MAX_RADIUS));
+        TestHooks.setCatalogElement(ArgumentTypes.class, "POSITION", position);
+        TestHooks.setCatalogElement(ArgumentTypes.class, "RADIUS", radius);
+        TestHooks.setCatalogElement(ArgumentTypes.class, "ENTITY_TYPE", ENTITY_TYPE);
+    }
+
+    @AfterClass
+    public static void tearDownArgumentTypes() throws ReflectiveOperationException {
+        TestHooks.setCatalogElement(ArgumentTypes.class, "POSITION", null);
+        TestHooks.setCatalogElement(ArgumentTypes.class, "RADIUS", null);
+        TestHooks.setCatalogElement(ArgumentTypes.class, "ENTITY_TYPE", null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Selector selector(SelectorType type, Map<ArgumentType<?>, Object> arguments, boolean inverted) {
+        final Selector selector = mock(Selector.class);
+        when(selector.getType()).thenReturn(type);
+        when(selector.get(any(ArgumentType.class))).thenAnswer(invocation -> Optional.ofNullable(arguments.get(invocation.getArguments()[0])));
+        when(selector.has(any(ArgumentType.class))).thenAnswer(invocation -> arguments.containsKey(invocation.getArguments()[0]));
+        when(selector.isInverted(ENTITY_TYPE)).thenReturn(inverted);
+        final List<Argument<?>> list = new ArrayList<>();
+        for (ArgumentType<?> argumentType : arguments.keySet()) {
+            final Argument argument = mock(Argument.class);
+            when(argument.getType()).thenReturn(argumentType);
+            list.add(argument);
+        }
+        when(selector.getArguments()).thenReturn(list);
+        return selector;
+    }
+
+    private static Map<ArgumentType<?>, Object> radius(int maximum) {
+        final Map<ArgumentType<?>, Object> arguments = new HashMap<>();
+        arguments.put(MAX_RADIUS, maximum);
+        return arguments;
+    }
+
+    private Entity entity(EntityType type, double x, double y, double z) {
+        final Entity entity = mock(Entity.class);
+        final Location<World> location = new Location<>(this.world, x, y, z);
+        when(entity.getType()).thenReturn(type);
+        when(entity.getLocation()).thenReturn(location);
+        return entity;
+    }
+
+    private void stubNearby(Entity... entities) {
+        when(this.world.getNearbyEntities(any(Vector3d.class), anyDouble())).thenReturn(ImmutableList.copyOf(entities));
+    }
+
+    private Vector3d verifyNearby(double radius) {
+        final ArgumentCaptor<Vector3d> center = ArgumentCaptor.forClass(Vector3d.class);
+        verify(this.world).getNearbyEntities(center.capture(), eq(radius));
+        return center.getValue();
+    }
+
+    private List<Entity> resolve(Selector selector, Location<World> location) {
+        final List<Entity> entities = new ArrayList<>();
+        new SimpleCompiledSelector(selector).resolve(location, entities::add);
+        return entities;
+    }
+
+    @Test
+    public void testCenterOfOriginBlock() {
+        final Entity entity = entity(mock(EntityType.class), 2, 2, -3);
+        stubNearby(entity);
+        final List<Entity> entities = resolve(selector(SelectorTypes.ALL_ENTITIES, radius(10), false), new Location<>(this.world, 1.7, 2.2, -3.4));
+        assertEquals(ImmutableList.of(entity), entities);
+        assertEquals(new Vector3d(1.5, 2.5, -3.5), verifyNearby(10));
+    }
+
+    @Test
+    public void testPositionOverrides() {
+        stubNearby();
+        final Map<ArgumentType<?>, Object> arguments = radius(4);
+        arguments.put(X, 5);
+        arguments.put(Z, -7);
+        resolve(selector(SelectorTypes.ALL_ENTITIES, arguments, false), new Location<>(this.world, 100, 64, 100));
+        assertEquals(new Vector3d(5.5, 64.5, -6.5), verifyNearby(4));
+    }
+
+    @Test
+    public void testMinimumRadius() {
+        final EntityType type = mock(EntityType.class);
+        final Entity near = entity(type, 1.5, 0.5, 0.5);
+        final Entity edge = entity(type, 2.5, 0.5, 0.5);
+        final Entity far = entity(type, 0.5, 0.5, 5.5);
+        stubNearby(near, edge, far);
+        final Map<ArgumentType<?>, Object> arguments = radius(10);
+        arguments.put(MIN_RADIUS, 2);
+        final List<Entity> entities = resolve(selector(SelectorTypes.ALL_ENTITIES, arguments, false), new Location<>(this.world, 0, 0, 0));
+        assertEquals(ImmutableList.of(edge, far), entities);
+    }
+
+    @Test
+    public void testEntityType() {
+        final EntityType creeper = mock(EntityType.class);
+        final EntityType pig = mock(EntityType.class);
+        final Entity creeperEntity = entity(creeper, 0, 0, 0);
+        final Entity pigEntity = entity(pig, 0, 0, 0);
+        stubNearby(creeperEntity, pigEntity);
+        final Map<ArgumentType<?>, Object> arguments = radius(10);
+        arguments.put(ENTITY_TYPE, creeper);
+        final Location<World> origin = new Location<>(this.world, 0, 0, 0);
+        assertEquals(ImmutableList.of(creeperEntity), resolve(selector(SelectorTypes.ALL_ENTITIES, arguments, false), origin));
+        assertEquals(ImmutableList.of(pigEntity), resolve(selector(SelectorTypes.ALL_ENTITIES, arguments, true), origin));
+    }
+
+    @Test
+    public void testPlayersAreLookedUpByClass() {
+        final Player player = mock(Player.class);
+        when(this.world.getNearbyEntities(any(Vector3d.class), anyDouble(), eq(Player.class))).thenReturn(ImmutableList.of(player));
+        final List<Entity> entities = resolve(selector(SelectorTypes.ALL_PLAYERS, radius(3), false), new Location<>(this.world, 0, 0, 0));
+        assertEquals(ImmutableList.of(player), entities);
+        verify(this.world).getNearbyEntities(new Vector3d(0.5, 0.5, 0.5), 3, Player.class);
+        verify(this.world, never()).getNearbyEntities(any(Vector3d.class), anyDouble());
+    }
+
+    @Test
+    public void testUnsupportedSelectorsFallBack() {
+        final Entity entity = mock(Entity.class);
+        final Location<World> origin = new Location<>(this.world, 0, 0, 0);
+        final Map<ArgumentType<?>, Object> counted = radius(10);
+        counted.put(COUNT, 1);
+        final Map<ArgumentType<?>, Object> typed = radius(10);
+        typed.put(ENTITY_TYPE, mock(EntityType.class));
+        final List<Selector> selectors = ImmutableList.of(
+                selector(SelectorTypes.ALL_ENTITIES, counted, false),
+                selector(SelectorTypes.ALL_ENTITIES, new HashMap<>(), false),
+                // Entity types can't be used with players
+                selector(SelectorTypes.ALL_PLAYERS, typed, false),
+                selector(SelectorTypes.NEAREST_PLAYER, radius(10), false));
+        for (Selector selector : selectors) {
+            when(selector.resolve(origin)).thenReturn(ImmutableSet.of(entity));
+            assertEquals(ImmutableList.of(entity), resolve(selector, origin));
+        }
+        verify(this.world, never()).getNearbyEntities(any(Vector3d.class), anyDouble());
+    }
+
+    @Test
+    public void testSourceWithoutLocationFallsBack() {
+        final Selector selector = selector(SelectorTypes.ALL_ENTITIES, radius(10), false);
+        final Entity entity = mock(Entity.class);
+        final Entity located = entity(mock(EntityType.class), 0, 0, 0);
+        final CommandSource console = mock(CommandSource.class);
+        when(selector.resolve(console)).thenReturn(ImmutableSet.of(entity));
+        final LocatedSource source = mock(LocatedSource.class);
+        when(source.getLocation()).thenReturn(new Location<>(this.world, 0, 0, 0));
+        stubNearby(located);
+
+        final SimpleCompiledSelector compiled = new SimpleCompiledSelector(selector);
+        final List<Entity> entities = new ArrayList<>();
+        compiled.resolve(console, entities::add);
+        compiled.resolve(source, entities::add);
+        assertEquals(ImmutableList.of(entity, located), entities);
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BlockRayTest {
+
+    private static final Vector3d ORIGIN = new Vector3d(0.5, 30.5, 0.5);
+    // Axis aligned, through edges and corners, and arbitrary directions
+    private static final List<Vector3d> DIRECTIONS = ImmutableList.of(
+            Vector3d.UNIT_X, Vector3d.UNIT_Y.negate(), new Vector3d(1, 1, 0), new Vector3d(-1, -1, -1),
+            new Vector3d(0.3, -0.2, 0.9), new Vector3d(-0.7, 0.1, 0.4), new Vector3d(1, -0.5, 0.3));
+
+    private final Extent extent = TestBlocks.extent(position -> { });
+
+    private static String describe(int x, int y, int z, Vector3d normal) {
+        return x + "," + y + "," + z + " " + normal;
+    }
+
+    private static String describe(BlockRayHit<?> hit) {
+        return describe(hit.getBlockX(), hit.getBlockY(), hit.getBlockZ(), hit.getNormal());
+    }
+
+    private BlockRay.BlockRayBuilder<Extent> ray(Vector3d direction) {
+        return BlockRay.from(this.extent, ORIGIN).direction(direction).blockLimit(100);
+    }
+
+    private List<String> iterate(BlockRay<Extent> blockRay) {
+        final List<String> blocks = new ArrayList<>();
+        blockRay.forEachRemaining(hit -> blocks.add(describe(hit)));
+        return blocks;
+    }
+
+    @Test
+    public void testTraceMatchesIterator() {
+        for (Vector3d direction : DIRECTIONS) {
+            final List<String> expected = iterate(ray(direction).build());
+            assertFalse(expected.isEmpty());
+
+            final List<String> traced = new ArrayList<>();
+            assertFalse(ray(direction).trace((x, y, z, normal) -> traced.add(describe(x, y, z, normal))));
+            assertEquals(expected, traced);
+
+            final List<String> tracedTypes = new ArrayList<>();
+            assertFalse(ray(direction).traceTypes((x, y, z, normal, type) -> {
+                assertSame(TestBlocks.getBlockType(x, y, z), type);
+                return tracedTypes.add(describe(x, y, z, normal));
+            }));
+            assertEquals(expected, tracedTypes);
+        }
+    }
+
+    @Test
+    public void testTraceMatchesFilteredIterator() {
+        for (Vector3d direction : DIRECTIONS) {
+            final List<String> expected = iterate(ray(direction).filter(BlockRay.onlyAirFilter()).build());
+
+            final List<String> traced = new ArrayList<>();
+            ray(direction).filter(BlockRay.onlyAirFilter()).trace((x, y, z, normal) -> traced.add(describe(x, y, z, normal)));
+            assertEquals(expected, traced);
+
+            final List<String> tracedTypes = new ArrayList<>();
+            ray(direction).filter(BlockRay.onlyAirFilter()).traceTypes((x, y, z, normal, type) -> tracedTypes.add(describe(x, y, z, normal)));
+            assertEquals(expected, tracedTypes);
+        }
+    }
+
+    @Test
+    public void testEarlyStop() {
+        for (Vector3d direction : DIRECTIONS) {
+            final List<String> expected = iterate(ray(direction).build());
+            final int stop = expected.size() / 2;
+
+            final List<String> traced = new ArrayList<>();
+            final BlockRay<Extent> blockRay = ray(direction).build();
+            assertTrue(blockRay.trace((x, y, z, normal) -> {
+                traced.add(describe(x, y, z, normal));
+                return traced.size() <= stop;
+            }));
+            assertEquals(expected.subList(0, stop + 1), traced);
+            // The iterator continues after the last visited block
+            assertEquals(expected.subList(stop + 1, expected.size()), iterate(blockRay));
+
+            final List<String> tracedTypes = new ArrayList<>();
+            assertTrue(ray(direction).traceTypes((x, y, z, normal, type) -> {
+                tracedTypes.add(describe(x, y, z, normal));
+                return tracedTypes.size() <= stop;
+            }));
+            assertEquals(expected.subList(0, stop + 1), tracedTypes);
+        }
+    }
+
+    @Test
+    public void testTraceAfterHasNext() {
+        for (Vector3d direction : DIRECTIONS) {
+            final List<String> expected = iterate(ray(direction).build());
+            final BlockRay<Extent> blockRay = ray(direction).build();
+            assertEquals(expected.get(0), describe(blockRay.next()));
+            assertTrue(blockRay.hasNext());
+
+            final List<String> traced = new ArrayList<>();
+            blockRay.trace((x, y, z, normal) -> traced.add(describe(x, y, z, normal)));
+            assertEquals(expected.subList(1, expected.size()), traced);
+
+            final BlockRay<Extent> typedRay = ray(direction).build();
+            assertTrue(typedRay.hasNext());
+            final List<String> tracedTypes = new ArrayList<>();
+            typedRay.traceTypes((x, y, z, normal, type) -> tracedTypes.add(describe(x, y, z, normal)));
+            assertEquals(expected, tracedTypes);
+        }
+    }
+
+    @Test
+    public void testFilterHitsCanBeCopied() {
+        final List<BlockRayHit<Extent>> hits = new ArrayList<>();
+        final List<BlockRayHit<Extent>> copies = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        ray(DIRECTIONS.get(4)).filter(hit -> {
+            hits.add(hit);
+            copies.add(hit.copy());
+            expected.add(describe(hit));
+            return true;
+        }).trace((x, y, z, normal) -> true);
+
+        assertTrue(hits.size() > 1);
+        // The filter is given a single reused hit, the copies keep their values
+        assertSame(hits.get(0), hits.get(hits.size() - 1));
+        final List<String> copied = new ArrayList<>();
+        for (BlockRayHit<Extent> copy : copies) {
+            assertNotSame(hits.get(0), copy);
+            copied.add(describe(copy));
+        }
+        assertEquals(expected, copied);
+    }
+
+    @Test
+    public void testCopy() {
+        final BlockRayHit<Extent> hit = new BlockRayHit<>(this.extent, 2.5, 3, 4.25, Vector3d.UNIT_Y, Vector3d.UNIT_Y.negate());
+        final BlockRayHit<Extent> copy = hit.copy();
+        hit.set(7, 8.5, 9.5, Vector3d.UNIT_X.negate());
+        assertSame(this.extent, copy.getExtent());
+        assertEquals(new Vector3d(2.5, 3, 4.25), copy.getPosition());
+        assertEquals(Vector3d.UNIT_Y, copy.getDirection());
+        assertEquals(Vector3d.UNIT_Y.negate(), copy.getNormal());
+        assertEquals("2,3,4 " + Vector3d.UNIT_Y.negate(), describe(copy));
+        assertEquals("7,8,9 " + Vector3d.UNIT_X.negate(), describe(hit));
+    }
+
+}
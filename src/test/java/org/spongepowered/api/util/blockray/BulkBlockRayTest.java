@@ -0,0 +1,218 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+public class BulkBlockRayTest {
+
+    private static final Vector3d ORIGIN = new Vector3d(0.5, 30.5, 0.5);
+
+    private final Extent extent = TestBlocks.extent(position -> { });
+
+    private static BulkBlockRay.Builder bulk(BlockVolume volume) {
+        return BlockRay.bulk(volume).blockLimit(200);
+    }
+
+    /**
+     * Traces one ray of the builder on its own. The ray isn't created through
+     * {@link BlockRay#from}, as normalizing the direction again may change
+     * its last bits, and with them the blocks passed at edges.
+     */
+    private static void traceSingle(BulkBlockRay.Builder builder, int ray, BlockVolume volume, BlockTypeRayVisitor visitor) {
+        BlockRay.detached(builder.origins.get(ray), builder.directions.get(ray), builder.blockLimit)
+                .traceTypes(visitor, volume, volume::getBlockTypes);
+    }
+
+    /**
+     * Checks every ray of the bulk trace against a single block ray, stopping
+     * at the first block which isn't air.
+     */
+    private void assertMatchesSingleRays(BulkBlockRay.Builder builder, BulkBlockRay result) {
+        assertEquals(builder.origins.size(), result.size());
+        for (int ray = 0; ray < result.size(); ray++) {
+            final int[] count = new int[1];
+            final int[] hit = new int[3];
+            final BlockType[] type = new BlockType[1];
+            traceSingle(builder, ray, this.extent, (x, y, z, normal, blockType) -> {
+                if (blockType.equals(BlockTypes.AIR)) {
+                    count[0]++;
+                    return true;
+                }
+                hit[0] = x;
+                hit[1] = y;
+                hit[2] = z;
+                type[0] = blockType;
+                return false;
+            });
+            assertEquals("Ray " + ray, count[0], result.getBlockCount(ray));
+            assertEquals("Ray " + ray, type[0] != null, result.isHit(ray));
+            if (type[0] != null) {
+                assertSame(type[0], result.getBlockType(ray));
+                assertEquals(new Vector3i(hit[0], hit[1], hit[2]), new Vector3i(result.getBlockX(ray), result.getBlockY(ray),
+                        result.getBlockZ(ray)));
+            }
+        }
+    }
+
+    @Test
+    public void testRays() {
+        final BulkBlockRay.Builder builder = bulk(this.extent).rays(
+                new double[] {0.5, 30.5, 0.5, -10.2, 5.7, 3.3, 7, 60, -7},
+                new double[] {1, 0, 0, 0.3, -0.2, 0.9, -1, -1, 1});
+        final BulkBlockRay result = builder.trace();
+        assertEquals(3, result.size());
+        assertMatchesSingleRays(builder, result);
+    }
+
+    @Test
+    public void testBlockLimit() {
+        final BulkBlockRay.Builder builder = BlockRay.bulk(this.extent).blockLimit(3).ray(new Vector3d(0.5, 62.5, 0.5), Vector3d.UNIT_Y);
+        final BulkBlockRay result = builder.trace();
+        assertFalse(result.isHit(0));
+        assertEquals(0, result.getHitCount());
+        assertMatchesSingleRays(builder, result);
+    }
+
+    @Test
+    public void testCone() {
+        final Vector3d axis = new Vector3d(1, -0.5, 0.3);
+        final BulkBlockRay.Builder builder = bulk(this.extent).cone(ORIGIN, axis, 30, 4, 8);
+        assertEquals(1 + 4 * 8, builder.directions.size());
+        for (Vector3d direction : builder.directions) {
+            assertEquals(1, direction.length(), 1e-9);
+            assertTrue(direction.dot(axis.normalize()) >= Math.cos(Math.toRadians(30)) - 1e-9);
+        }
+        assertMatchesSingleRays(builder, builder.trace());
+    }
+
+    @Test
+    public void testFan() {
+        final Vector3d axis = new Vector3d(0.3, 0, 1);
+        final Vector3d normal = Vector3d.UNIT_Y;
+        final BulkBlockRay.Builder builder = bulk(this.extent).fan(ORIGIN, axis, normal, 90, 9);
+        assertEquals(9, builder.directions.size());
+        // The outer rays are 45 degrees away from the axis on both sides, the
+        // rotations are computed with float precision
+        assertEquals(Math.cos(Math.toRadians(45)), builder.directions.get(0).dot(axis.normalize()), 1e-6);
+        assertEquals(Math.cos(Math.toRadians(45)), builder.directions.get(8).dot(axis.normalize()), 1e-6);
+        assertEquals(1, builder.directions.get(4).dot(axis.normalize()), 1e-6);
+        assertTrue(builder.directions.get(0).cross(builder.directions.get(8)).normalize().dot(normal) > 1 - 1e-6);
+        assertMatchesSingleRays(builder, builder.trace());
+    }
+
+    @Test
+    public void testParallelMatchesSerial() {
+        final BlockVolume volume = TestBlocks.volume(position -> { });
+        final BulkBlockRay.Builder builder = bulk(volume).cone(ORIGIN, new Vector3d(0.2, -1, 0.4), 60, 8, 16);
+        final BulkBlockRay serial = builder.trace();
+        final BulkBlockRay parallel = builder.parallel(new ForkJoinPool(4)).trace();
+        assertEquals(1 + 8 * 16, parallel.size());
+        assertTrue(serial.getHitCount() > 0);
+        assertEquals(serial.getHitCount(), parallel.getHitCount());
+        for (int ray = 0; ray < serial.size(); ray++) {
+            assertEquals(serial.getBlockCount(ray), parallel.getBlockCount(ray));
+            assertEquals(serial.isHit(ray), parallel.isHit(ray));
+            if (serial.isHit(ray)) {
+                assertEquals(serial.getBlockX(ray), parallel.getBlockX(ray));
+                assertEquals(serial.getBlockY(ray), parallel.getBlockY(ray));
+                assertEquals(serial.getBlockZ(ray), parallel.getBlockZ(ray));
+            }
+        }
+        assertMatchesSingleRays(builder, serial);
+    }
+
+    @Test
+    public void testSectionCacheLooksUpBlocksOnce() {
+        final List<Vector3i> lookups = new ArrayList<>();
+        final BulkBlockRay.Builder builder = bulk(TestBlocks.volume(lookups::add)).cone(ORIGIN, Vector3d.UNIT_X, 20, 4, 16);
+        builder.trace();
+
+        final List<Vector3i> singleLookups = new ArrayList<>();
+        final BlockVolume volume = TestBlocks.volume(singleLookups::add);
+        for (int ray = 0; ray < builder.origins.size(); ray++) {
+            traceSingle(builder, ray, volume, (x, y, z, normal, type) -> type.equals(BlockTypes.AIR));
+        }
+        // Neighbouring rays pass through many of the same blocks, which are
+        // only looked up by the first ray
+        final Set<Vector3i> distinct = new HashSet<>(singleLookups);
+        assertEquals(distinct, new HashSet<>(lookups));
+        assertEquals(distinct.size(), lookups.size());
+        assertTrue(lookups.size() < singleLookups.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testParallelRejectsExtent() {
+        BlockRay.bulk(this.extent).parallel();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConeRejectsNullOrigin() {
+        BlockRay.bulk(this.extent).cone(null, Vector3d.UNIT_X, 10, 1, 4);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFanRejectsNullOrigin() {
+        BlockRay.bulk(this.extent).fan(null, Vector3d.UNIT_X, Vector3d.UNIT_Y, 10, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRaysRejectMismatchedArrays() {
+        BlockRay.bulk(this.extent).rays(new double[] {0, 0, 0}, new double[] {1, 0, 0, 0, 1, 0});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFanRejectsZeroNormal() {
+        BlockRay.bulk(this.extent).fan(Vector3d.ZERO, Vector3d.UNIT_X, Vector3d.ZERO, 10, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRayRejectsNaNDirection() {
+        BlockRay.bulk(this.extent).ray(Vector3d.ZERO, new Vector3d(Double.NaN, 0, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRayRejectsInfiniteDirection() {
+        BlockRay.bulk(this.extent).ray(Vector3d.ZERO, new Vector3d(Double.POSITIVE_INFINITY, 0, 0));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.test.TestStubs;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Block volumes filled with air and scattered stone, which report their block
+ * type lookups.
+ */
+final class TestBlocks {
+
+    static final BlockType STONE = mock(BlockType.class);
+    static final Vector3i MIN = new Vector3i(-40, 0, -40);
+    static final Vector3i MAX = new Vector3i(40, 63, 40);
+
+    private TestBlocks() {
+    }
+
+    static BlockType getBlockType(int x, int y, int z) {
+        return y == 0 || Math.floorMod(x * 31 + y * 17 + z * 7, 37) == 0 ? STONE : BlockTypes.AIR;
+    }
+
+    static Extent extent(Consumer<Vector3i> onLookup) {
+        return TestStubs.stub(Extent.class, handlers(onLookup));
+    }
+
+    static BlockVolume volume(Consumer<Vector3i> onLookup) {
+        return TestStubs.stub(BlockVolume.class, handlers(onLookup));
+    }
+
+    private static Map<String, TestStubs.Handler> handlers(Consumer<Vector3i> onLookup) {
+        return ImmutableMap.<String, TestStubs.Handler>builder()
+                .put("getBlockMin", (proxy, args) -> MIN)
+                .put("getBlockMax", (proxy, args) -> MAX)
+                .put("containsBlock", (proxy, args) -> {
+                    final Vector3i position = new Vector3i((int) args[0], (int) args[1], (int) args[2]);
+                    return position.equals(position.max(MIN).min(MAX));
+                })
+                .put("getBlockType", (proxy, args) -> {
+                    final Vector3i position = new Vector3i((int) args[0], (int) args[1], (int) args[2]);
+                    onLookup.accept(position);
+                    return getBlockType(position.getX(), position.getY(), position.getZ());
+                })
+                .build();
+    }
+
+}
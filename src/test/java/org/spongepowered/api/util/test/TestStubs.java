@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Creates implementations of API interfaces which, unlike Mockito mocks,
+ * run the default methods of the interfaces.
+ */
+public final class TestStubs {
+
+    private TestStubs() {
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+
+        Object handle(Object proxy, Object[] args) throws Throwable;
+
+    }
+
+    /**
+     * Creates an instance of the interface which answers its abstract methods
+     * through the handlers with the same name, and runs its default methods.
+     * Other abstract methods throw an {@link UnsupportedOperationException}.
+     */
+    public static <T> T stub(Class<T> type, Map<String, Handler> handlers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            final Object[] arguments = args == null ? new Object[0] : args;
+            if (method.isDefault()) {
+                return invokeDefault(proxy, method, arguments);
+            }
+            final Handler handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.handle(proxy, arguments);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        }));
+    }
+
+    private static Object invokeDefault(Object proxy, Method method, Object[] args) throws Throwable {
+        // Java 8 only allows private lookups to call a default method
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(declaringClass, MethodHandles.Lookup.PRIVATE)
+                .unreflectSpecial(method, declaringClass)
+                .bindTo(proxy)
+                .invokeWithArguments(args);
+    }
+
+}
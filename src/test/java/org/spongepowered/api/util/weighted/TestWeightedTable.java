@@ -27,6 +27,8 @@
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TestWeightedTable {
@@ -41,4 +43,28 @@ public void test() {
         Assert.assertEquals(this, results.get(0));
     }
 
+    @Test
+    public void testPicksByCumulativeWeight() {
+        RiggedRandom rand = new RiggedRandom();
+        WeightedTable<String> table = new WeightedTable<>(4);
+        table.add("a", 1);
+        table.add("none", 0);
+        table.add("b", 2);
+        table.add("c", 1);
+        rand.enqueue(0);
+        rand.enqueue(0.25);
+        rand.enqueue(0.5);
+        rand.enqueue(0.99);
+        List<String> results = new ArrayList<>();
+        table.get(rand, results::add);
+        Assert.assertEquals(Arrays.asList("a", "a", "b", "c"), results);
+
+        table.removeObject("a");
+        rand.enqueue(0);
+        rand.enqueue(0.6);
+        rand.enqueue(0.7);
+        rand.enqueue(0.5);
+        Assert.assertEquals(Arrays.asList("none", "b", "c", "b"), table.get(rand));
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.util.Direction;
+
+public class MutableLocationTest {
+
+    private final World world = mock(World.class);
+
+    @Test
+    public void testConversion() {
+        final Location<World> location = new Location<>(this.world, 1.5, 64, -2.25);
+        final MutableLocation<World> mutable = location.toMutable();
+        assertSame(this.world, mutable.getExtent());
+        assertEquals(new Vector3d(1.5, 64, -2.25), mutable.getPosition());
+        assertEquals(location, mutable.toLocation());
+    }
+
+    @Test
+    public void testMovesInPlace() {
+        final MutableLocation<World> mutable = new MutableLocation<>(this.world, -0.5, 10, 0.5);
+        assertEquals(new Vector3i(-1, 10, 0), mutable.getBlockPosition());
+        assertSame(mutable, mutable.move(Direction.NORTH).add(1, 1, 1).sub(0, 2, 0));
+        assertEquals(new Vector3d(0.5, 9, 0.5), mutable.getPosition());
+        final MutableLocation<World> copy = mutable.copy();
+        mutable.setPosition(0, 0, 0);
+        assertEquals(new Vector3d(0.5, 9, 0.5), copy.getPosition());
+    }
+
+    @Test
+    public void testBlockAccessUsesRawCoordinates() {
+        new MutableLocation<>(this.world, -0.5, 10.9, 3.2).getBlock();
+        verify(this.world).getBlock(-1, 10, 3);
+    }
+
+}
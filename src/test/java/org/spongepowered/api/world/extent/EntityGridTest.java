@@ -0,0 +1,99 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.living.Living;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.List;
+
+public class EntityGridTest {
+
+    private final World world = mock(World.class);
+
+    private <T extends Entity> T entity(Class<T> type, double x, double y, double z) {
+        final T entity = mock(type);
+        when(entity.getLocation()).thenReturn(new Location<>(this.world, x, y, z));
+        return entity;
+    }
+
+    @Test
+    public void testNearbyEntitiesAcrossCells() {
+        final Entity origin = entity(Entity.class, 0.5, 64, 0.5);
+        final Entity west = entity(Entity.class, -3, 64, 0.5);
+        final Entity above = entity(Entity.class, 0.5, 67.5, 0.5);
+        final Entity far = entity(Entity.class, -20, 64, 30);
+        final EntityGrid grid = EntityGrid.of(Lists.newArrayList(origin, west, above, far));
+        assertEquals(4, grid.size());
+        assertEquals(ImmutableSet.of(origin, west), ImmutableSet.copyOf(grid.getNearbyEntities(new Vector3d(-1, 64, 0.5), 2.5)));
+        assertEquals(ImmutableSet.of(origin, west, above), ImmutableSet.copyOf(grid.getNearbyEntities(new Vector3d(0, 64, 0), 4)));
+        assertEquals(4, grid.getNearbyEntities(Vector3d.ZERO, 1000).size());
+    }
+
+    @Test
+    public void testHugeDistances() {
+        final List<Entity> entities = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            entities.add(entity(Entity.class, i * 1000 - 5000, 64, 5000 - i * 700));
+        }
+        final EntityGrid grid = EntityGrid.of(entities);
+        for (double distance : new double[] {1e6, 1e12, 1e300, Double.MAX_VALUE}) {
+            assertEquals(10, grid.getNearbyEntities(Vector3d.ZERO, distance).size());
+            assertEquals(10, grid.getEntitiesInBox(AABB.around(Vector3d.ZERO, distance)).size());
+        }
+        assertEquals(0, grid.getNearbyEntities(new Vector3d(1e12, 64, 1e12), 10).size());
+    }
+
+    @Test
+    public void testEntitiesInBox() {
+        final Entity inside = entity(Entity.class, 17, 10, -17);
+        final Entity outside = entity(Entity.class, 17, 30, -17);
+        final EntityGrid grid = EntityGrid.of(Lists.newArrayList(inside, outside), 4);
+        assertEquals(ImmutableSet.of(inside), ImmutableSet.copyOf(grid.getEntitiesInBox(new AABB(16, 0, -16, 18, 20, -18))));
+    }
+
+    @Test
+    public void testTypedQueries() {
+        final Entity entity = entity(Entity.class, 1, 1, 1);
+        final Living living = entity(Living.class, 2, 1, 1);
+        final EntityGrid grid = EntityGrid.of(Lists.newArrayList(entity, living));
+        final List<Living> nearby = grid.getNearbyEntities(Vector3d.ONE, 5, Living.class);
+        assertEquals(1, nearby.size());
+        assertEquals(living, nearby.get(0));
+        assertEquals(1, grid.getEntitiesInBox(AABB.around(Vector3d.ONE, 5), Living.class).size());
+    }
+
+}
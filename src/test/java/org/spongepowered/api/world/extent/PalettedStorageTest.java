@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class PalettedStorageTest {
+
+    private static final int SECTION_SIZE = 16 * 16 * 16;
+
+    @Test
+    public void testUniformStorageUsesNoIndices() {
+        final PalettedStorage<String> storage = new PalettedStorage<>(SECTION_SIZE, "air");
+        assertEquals("air", storage.get(SECTION_SIZE - 1));
+        assertEquals(0, storage.getBitsPerValue());
+        storage.set(10, "air");
+        assertEquals(0, storage.getBitsPerValue());
+        assertEquals(ImmutableList.of("air"), storage.getPalette());
+    }
+
+    @Test
+    public void testIndicesWidenAsPaletteGrows() {
+        final PalettedStorage<Integer> storage = new PalettedStorage<>(SECTION_SIZE, 0);
+        final Integer[] expected = new Integer[SECTION_SIZE];
+        final Random random = new Random(0);
+        for (int i = 0; i < SECTION_SIZE; i++) {
+            expected[i] = 0;
+        }
+        for (int distinct = 2; distinct <= 300; distinct++) {
+            for (int j = 0; j < 50; j++) {
+                final int index = random.nextInt(SECTION_SIZE);
+                expected[index] = random.nextInt(distinct);
+                storage.set(index, expected[index]);
+            }
+            assertEquals(Integer.SIZE - Integer.numberOfLeadingZeros(storage.getPalette().size() - 1), storage.getBitsPerValue());
+        }
+        for (int i = 0; i < SECTION_SIZE; i++) {
+            assertEquals(expected[i], storage.get(i));
+        }
+    }
+
+    @Test
+    public void testTrimDropsUnusedValues() {
+        final PalettedStorage<String> storage = new PalettedStorage<>(SECTION_SIZE, "air");
+        storage.set(0, "stone");
+        storage.set(1, "dirt");
+        storage.set(2, "grass");
+        assertEquals(2, storage.getBitsPerValue());
+        final long memoryUsage = storage.getMemoryUsage();
+        storage.set(1, "air");
+        storage.set(2, "stone");
+        storage.trim();
+        assertEquals(ImmutableList.of("stone", "air"), storage.getPalette());
+        assertEquals(1, storage.getBitsPerValue());
+        assertEquals("stone", storage.get(0));
+        assertEquals("air", storage.get(1));
+        assertEquals("stone", storage.get(2));
+        assertEquals("air", storage.get(3));
+        assertTrue(storage.getMemoryUsage() < memoryUsage);
+    }
+
+    @Test
+    public void testFillResetsPalette() {
+        final PalettedStorage<String> storage = new PalettedStorage<>(SECTION_SIZE, "air");
+        storage.set(0, "stone");
+        storage.fill("water");
+        assertEquals(ImmutableList.of("water"), storage.getPalette());
+        assertEquals(0, storage.getBitsPerValue());
+        assertEquals("water", storage.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new PalettedStorage<>(SECTION_SIZE, "air").get(SECTION_SIZE);
+    }
+
+}
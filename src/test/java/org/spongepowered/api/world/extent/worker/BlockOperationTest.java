@@ -0,0 +1,308 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.scheduler.Scheduler;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Sponge.class)
+public class BlockOperationTest {
+
+    private static final Vector3i MIN = new Vector3i(0, 0, 0);
+    // Three sections along the x axis
+    private static final Vector3i MAX = new Vector3i(47, 0, 0);
+
+    private final BlockState air = mock(BlockState.class);
+    private final BlockState stone = mock(BlockState.class);
+    private final BlockState dirt = mock(BlockState.class);
+    private final Cause cause = Cause.of(NamedCause.source(this));
+    private final Map<Vector3i, BlockState> blocks = new ConcurrentHashMap<>();
+    // The changes of every applied batch
+    private final List<Map<Vector3i, BlockState>> batches = new ArrayList<>();
+    private boolean cancelBatches;
+    private final Extent extent = TestVolumes.extent(this.blocks, this.air, MIN, MAX, changes -> {
+        this.batches.add(new LinkedHashMap<>(changes));
+        return !this.cancelBatches;
+    });
+    private final Task task = mock(Task.class);
+    private final List<Consumer<Task>> ticks = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        Task.Builder builder = mock(Task.Builder.class);
+        when(builder.name(anyString())).thenReturn(builder);
+        when(builder.intervalTicks(anyLong())).thenReturn(builder);
+        when(builder.execute(any(Consumer.class))).thenAnswer(invocation -> {
+            this.ticks.add((Consumer<Task>) invocation.getArguments()[0]);
+            return builder;
+        });
+        when(builder.submit(any())).thenReturn(this.task);
+        Scheduler scheduler = mock(Scheduler.class);
+        when(scheduler.createTaskBuilder()).thenReturn(builder);
+        when(scheduler.getPreferredTickInterval()).thenReturn(50);
+        PowerMockito.mockStatic(Sponge.class);
+        PowerMockito.when(Sponge.getScheduler()).thenReturn(scheduler);
+    }
+
+    private BlockOperation.Builder fillStone() {
+        return BlockOperation.builder()
+                .owner(this)
+                .cause(this.cause)
+                .region(this.extent, MIN, MAX)
+                .fill(this.stone)
+                .slicesPerTick(1)
+                .tickPercentLimit(0);
+    }
+
+    private void tick(int operation) {
+        this.ticks.get(operation).accept(this.task);
+    }
+
+    private int countStone() {
+        int count = 0;
+        for (int x = MIN.getX(); x <= MAX.getX(); x++) {
+            if (this.extent.getBlock(x, 0, 0) == this.stone) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testTickSlicing() {
+        List<BlockOperation> completed = new ArrayList<>();
+        BlockOperation operation = fillStone().onCompletion(completed::add).start();
+        assertEquals(3, operation.getSliceCount());
+        assertEquals(0, countStone());
+
+        for (int i = 1; i <= 3; i++) {
+            assertFalse(operation.isDone());
+            tick(0);
+            assertEquals(i, operation.getCompletedSlices());
+            assertEquals(i * 16, countStone());
+        }
+        assertTrue(operation.isDone());
+        assertFalse(operation.isCancelled());
+        assertEquals(1, completed.size());
+        assertSame(operation, completed.get(0));
+        verify(this.task).cancel();
+        // One batch per slice
+        assertEquals(3, this.batches.size());
+        for (Map<Vector3i, BlockState> batch : this.batches) {
+            assertEquals(16, batch.size());
+        }
+    }
+
+    @Test
+    public void testCancel() {
+        List<BlockOperation> completed = new ArrayList<>();
+        BlockOperation operation = fillStone().onCompletion(completed::add).start();
+        tick(0);
+        operation.cancel();
+        assertTrue(operation.isCancelled());
+        assertEquals(1, completed.size());
+
+        // A tick already scheduled must not change anything
+        tick(0);
+        assertEquals(1, operation.getCompletedSlices());
+        assertEquals(16, countStone());
+        operation.cancel();
+        assertEquals(1, completed.size());
+    }
+
+    @Test
+    public void testUndoOrdering() {
+        // The middle section is already filled, so there's nothing to restore
+        for (int x = 16; x < 32; x++) {
+            this.blocks.put(new Vector3i(x, 0, 0), this.stone);
+        }
+        BlockOperation operation = fillStone().captureUndo(true).start();
+        for (int i = 0; i < 3; i++) {
+            tick(0);
+        }
+        assertEquals(48, countStone());
+        assertEquals(2, this.batches.size());
+        this.batches.clear();
+        assertTrue(operation.canUndo());
+
+        BlockOperation undo = operation.undo();
+        assertFalse(operation.canUndo());
+        assertFalse(undo.canUndo());
+        assertEquals(2, undo.getSliceCount());
+        tick(1);
+        assertEquals(32, countStone());
+        tick(1);
+        assertTrue(undo.isDone());
+        assertEquals(16, countStone());
+        for (int x = 16; x < 32; x++) {
+            assertSame(this.stone, this.extent.getBlock(x, 0, 0));
+        }
+
+        // The slices are restored in reverse order, one batch each
+        assertEquals(2, this.batches.size());
+        for (Vector3i position : this.batches.get(0).keySet()) {
+            assertEquals(32, position.getX() & ~15);
+        }
+        for (Vector3i position : this.batches.get(1).keySet()) {
+            assertEquals(0, position.getX() & ~15);
+        }
+        assertEquals(16, this.batches.get(0).size());
+        assertEquals(16, this.batches.get(1).size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUndoOnce() {
+        BlockOperation operation = fillStone().captureUndo(true).start();
+        tick(0);
+        operation.undo();
+        operation.undo();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUndoNotCaptured() {
+        fillStone().start().undo();
+    }
+
+    @Test
+    public void testUndoAfterCancel() {
+        BlockOperation operation = fillStone().captureUndo(true).start();
+        tick(0);
+        tick(0);
+        BlockOperation undo = operation.undo();
+        assertTrue(operation.isCancelled());
+        verify(this.task, times(1)).cancel();
+        assertEquals(2, undo.getSliceCount());
+
+        // The cancelled operation doesn't continue before the undo
+        tick(0);
+        assertEquals(32, countStone());
+        tick(1);
+        tick(1);
+        assertEquals(0, countStone());
+    }
+
+    @Test
+    public void testCancelledBatchesAreNotCaptured() {
+        this.cancelBatches = true;
+        BlockOperation operation = fillStone().captureUndo(true).start();
+        for (int i = 0; i < 3; i++) {
+            tick(0);
+        }
+        assertTrue(operation.isDone());
+        assertEquals(0, countStone());
+        assertEquals(0, operation.undo().getSliceCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCauseIsMandatory() {
+        BlockOperation.builder()
+                .owner(this)
+                .region(this.extent, MIN, MAX)
+                .fill(this.stone)
+                .start();
+    }
+
+    @Test
+    public void testCopyOverlappingSource() {
+        for (int x = 0; x < 16; x++) {
+            this.blocks.put(new Vector3i(x, 0, 0), this.stone);
+            this.blocks.put(new Vector3i(x + 16, 0, 0), this.dirt);
+        }
+        // Shifts the first two sections by one section
+        BlockOperation.builder()
+                .owner(this)
+                .cause(this.cause)
+                .region(this.extent, new Vector3i(16, 0, 0), MAX)
+                .copy(this.extent, MIN)
+                .slicesPerTick(1)
+                .tickPercentLimit(0)
+                .start();
+        tick(0);
+        tick(0);
+        for (int x = 0; x < 16; x++) {
+            assertSame(this.stone, this.extent.getBlock(x, 0, 0));
+            assertSame(this.stone, this.extent.getBlock(x + 16, 0, 0));
+            assertSame(this.dirt, this.extent.getBlock(x + 32, 0, 0));
+        }
+    }
+
+    @Test
+    public void testCopySnapshotsSource() {
+        final Map<Vector3i, BlockState> sourceBlocks = new ConcurrentHashMap<>();
+        final UnmodifiableBlockVolume source = TestVolumes.unmodifiable(sourceBlocks, this.stone, new Vector3i(100, 0, 0),
+                new Vector3i(199, 0, 0));
+        // The region is set after the source, the offset must still be right
+        BlockOperation.builder()
+                .owner(this)
+                .cause(this.cause)
+                .copy(source, new Vector3i(110, 0, 0))
+                .region(this.extent, new Vector3i(16, 0, 0), new Vector3i(31, 0, 0))
+                .slicesPerTick(1)
+                .tickPercentLimit(0)
+                .start();
+        sourceBlocks.put(new Vector3i(110, 0, 0), this.dirt);
+        sourceBlocks.put(new Vector3i(125, 0, 0), this.dirt);
+        tick(0);
+        assertEquals(16, countStone());
+        for (int x = 16; x < 32; x++) {
+            assertSame(this.stone, this.extent.getBlock(x, 0, 0));
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.After;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelBlockVolumeWorkerTest {
+
+    // Not aligned on chunk sections, so some sections are partial
+    private static final Vector3i MIN = new Vector3i(-5, 0, -20);
+    private static final Vector3i MAX = new Vector3i(40, 20, 10);
+    private static final BlockState[] PALETTE = new BlockState[5];
+
+    static {
+        for (int i = 0; i < PALETTE.length; i++) {
+            PALETTE[i] = mock(BlockState.class);
+        }
+    }
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    private static int indexOf(BlockState block) {
+        for (int i = 0; i < PALETTE.length; i++) {
+            if (PALETTE[i] == block) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static Map<Vector3i, BlockState> blocks(int seed) {
+        final Map<Vector3i, BlockState> blocks = new ConcurrentHashMap<>();
+        for (int x = MIN.getX(); x <= MAX.getX(); x++) {
+            for (int y = MIN.getY(); y <= MAX.getY(); y++) {
+                for (int z = MIN.getZ(); z <= MAX.getZ(); z++) {
+                    blocks.put(new Vector3i(x, y, z), PALETTE[Math.floorMod(x * 7 + y * 13 + z * 3 + seed, PALETTE.length)]);
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private static MutableBlockVolume volume(Map<Vector3i, BlockState> blocks) {
+        return TestVolumes.mutable(blocks, PALETTE[0], MIN, MAX);
+    }
+
+    // Reads the neighbours of the block, which are changed when mapping in place
+    private static final BlockVolumeMapper MAPPER = (volume, x, y, z) -> {
+        final int next = x < MAX.getX() ? indexOf(volume.getBlock(x + 1, y, z)) : 0;
+        final int below = y > MIN.getY() ? indexOf(volume.getBlock(x, y - 1, z)) : 0;
+        return PALETTE[(next + below + 1) % PALETTE.length];
+    };
+
+    private static final BlockVolumeMerger MERGER = (first, x1, y1, z1, second, x2, y2, z2) -> {
+        final int left = indexOf(first.getBlock(x1, y1, z1));
+        final int right = indexOf(second.getBlock(x2, Math.max(MIN.getY(), y2 - 1), z2));
+        return PALETTE[(left * 3 + right) % PALETTE.length];
+    };
+
+    @Test
+    public void testMap() {
+        final Map<Vector3i, BlockState> serial = new HashMap<>();
+        final Map<Vector3i, BlockState> parallel = new ConcurrentHashMap<>();
+        final MutableBlockVolume source = volume(blocks(0));
+        source.getBlockWorker().map(MAPPER, volume(serial));
+        source.getBlockWorker().parallel(this.executor).map(MAPPER, volume(parallel));
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (Vector3i position : blocks(0).keySet()) {
+            expected.put(position, MAPPER.map(source.getUnmodifiableBlockView(), position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expected, serial);
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    public void testMapInPlace() {
+        // A copy of the source as destination gives the expected result
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        volume(blocks(0)).getBlockWorker().map(MAPPER, volume(expected));
+        final Map<Vector3i, BlockState> serial = blocks(0);
+        final Map<Vector3i, BlockState> parallel = blocks(0);
+        volume(serial).getBlockWorker().map(MAPPER);
+        volume(parallel).getBlockWorker().parallel(this.executor).map(MAPPER);
+        assertEquals(expected, serial);
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    public void testMerge() {
+        final Map<Vector3i, BlockState> serial = new HashMap<>();
+        final Map<Vector3i, BlockState> parallel = new ConcurrentHashMap<>();
+        final MutableBlockVolume first = volume(blocks(0));
+        final MutableBlockVolume second = volume(blocks(2));
+        first.getBlockWorker().merge(second, MERGER, volume(serial));
+        first.getBlockWorker().parallel(this.executor).merge(second, MERGER, volume(parallel));
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (Vector3i position : blocks(0).keySet()) {
+            expected.put(position, MERGER.merge(first.getUnmodifiableBlockView(), position.getX(), position.getY(), position.getZ(),
+                    second.getUnmodifiableBlockView(), position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expected, serial);
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    public void testMergeInPlace() {
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        final MutableBlockVolume second = volume(blocks(2));
+        volume(blocks(0)).getBlockWorker().merge(second, MERGER, volume(expected));
+        final Map<Vector3i, BlockState> serial = blocks(0);
+        final Map<Vector3i, BlockState> parallel = blocks(0);
+        volume(serial).getBlockWorker().merge(second, MERGER);
+        volume(parallel).getBlockWorker().parallel(this.executor).merge(second, MERGER);
+        assertEquals(expected, serial);
+        assertEquals(expected, parallel);
+
+        // Merging into the second volume
+        final Map<Vector3i, BlockState> expectedSecond = new HashMap<>();
+        volume(blocks(0)).getBlockWorker().merge(volume(blocks(2)), MERGER, volume(expectedSecond));
+        final Map<Vector3i, BlockState> parallelSecond = blocks(2);
+        final MutableBlockVolume destination = volume(parallelSecond);
+        volume(blocks(0)).getBlockWorker().parallel(this.executor).merge(destination, MERGER, destination);
+        assertEquals(expectedSecond, parallelSecond);
+    }
+
+    @Test
+    public void testFill() {
+        final Map<Vector3i, BlockState> serial = new HashMap<>();
+        final Map<Vector3i, BlockState> parallel = new ConcurrentHashMap<>();
+        volume(serial).getBlockWorker().fill((x, y, z) -> PALETTE[Math.floorMod(x ^ y ^ z, PALETTE.length)]);
+        volume(parallel).getBlockWorker().parallel(this.executor).fill((x, y, z) -> PALETTE[Math.floorMod(x ^ y ^ z, PALETTE.length)]);
+        assertEquals(blocks(0).size(), serial.size());
+        for (Map.Entry<Vector3i, BlockState> entry : serial.entrySet()) {
+            final Vector3i position = entry.getKey();
+            assertEquals(PALETTE[Math.floorMod(position.getX() ^ position.getY() ^ position.getZ(), PALETTE.length)], entry.getValue());
+        }
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void testReduce() {
+        final MutableBlockVolume volume = volume(blocks(1));
+        // Counts the blocks of the first palette entry
+        final int serialCount = volume.getBlockWorker().reduce(
+                (v, x, y, z, count) -> v.getBlock(x, y, z) == PALETTE[0] ? count + 1 : count, Integer::sum, 0);
+        final int parallelCount = volume.getBlockWorker().parallel(this.executor).reduce(
+                (v, x, y, z, count) -> v.getBlock(x, y, z) == PALETTE[0] ? count + 1 : count, Integer::sum, 0);
+        assertEquals(blocks(1).values().stream().filter(block -> block == PALETTE[0]).count(), serialCount);
+        assertEquals(serialCount, parallelCount);
+
+        // The order of the blocks matters here, so the reductions of the
+        // sections must be merged in the same order
+        final BlockVolumeReducer<String> reducer = (v, x, y, z, string) -> string + indexOf(v.getBlock(x, y, z));
+        final String serial = volume.getBlockWorker().reduce(reducer, String::concat, "");
+        assertEquals(blocks(1).size(), serial.length());
+        assertEquals(serial, volume.getBlockWorker().parallel(this.executor).reduce(reducer, String::concat, ""));
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.test.TestStubs;
+import org.spongepowered.api.world.extent.BlockBatch;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Block volumes backed by a map of positions to blocks, with workers which
+ * process the sections one after the other.
+ */
+final class TestVolumes {
+
+    private TestVolumes() {
+    }
+
+    /**
+     * Creates an extent whose blocks can only be changed through batches.
+     * The changes of each batch are passed to the listener, which returns
+     * false to cancel them.
+     */
+    static Extent extent(Map<Vector3i, BlockState> blocks, BlockState fill, Vector3i min, Vector3i max,
+            Predicate<Map<Vector3i, BlockState>> onApply) {
+        final UUID uniqueId = UUID.randomUUID();
+        return TestStubs.stub(Extent.class, ImmutableMap.<String, TestStubs.Handler>builder()
+                .putAll(readHandlers(blocks, fill, min, max))
+                .put("newBlockBatch", (proxy, args) -> batch((Extent) proxy, (Cause) args[0], blocks, onApply))
+                .put("getUniqueId", (proxy, args) -> uniqueId)
+                .put("getBlockView", (proxy, args) -> mutable(blocks, fill, (Vector3i) args[0], (Vector3i) args[1]))
+                .put("getUnmodifiableBlockView", (proxy, args) -> unmodifiable(blocks, fill, min, max))
+                .build());
+    }
+
+    private static BlockBatch batch(Extent extent, Cause cause, Map<Vector3i, BlockState> blocks, Predicate<Map<Vector3i, BlockState>> onApply) {
+        final Map<Vector3i, BlockState> pending = new LinkedHashMap<>();
+        final boolean[] applied = new boolean[1];
+        return TestStubs.stub(BlockBatch.class, ImmutableMap.<String, TestStubs.Handler>builder()
+                .put("getExtent", (proxy, args) -> extent)
+                .put("getCause", (proxy, args) -> cause)
+                .put("setBlock", (proxy, args) -> {
+                    checkState(!applied[0]);
+                    pending.put(new Vector3i((int) args[0], (int) args[1], (int) args[2]), (BlockState) args[3]);
+                    return proxy;
+                })
+                .put("size", (proxy, args) -> pending.size())
+                .put("isApplied", (proxy, args) -> applied[0])
+                .put("apply", (proxy, args) -> {
+                    checkState(!applied[0]);
+                    applied[0] = true;
+                    if (!onApply.test(pending)) {
+                        return false;
+                    }
+                    blocks.putAll(pending);
+                    return true;
+                })
+                .build());
+    }
+
+    static MutableBlockVolume mutable(Map<Vector3i, BlockState> blocks, BlockState fill, Vector3i min, Vector3i max) {
+        return TestStubs.stub(MutableBlockVolume.class, ImmutableMap.<String, TestStubs.Handler>builder()
+                .putAll(readHandlers(blocks, fill, min, max))
+                .put("setBlock", (proxy, args) -> blocks.put(new Vector3i((int) args[0], (int) args[1], (int) args[2]), (BlockState) args[3]))
+                .put("getBlockView", (proxy, args) -> mutable(blocks, fill, (Vector3i) args[0], (Vector3i) args[1]))
+                .put("getUnmodifiableBlockView", (proxy, args) -> unmodifiable(blocks, fill, min, max))
+                .put("getBlockWorker", (proxy, args) -> new ParallelMutableBlockVolumeWorker<>((MutableBlockVolume) proxy, Runnable::run))
+                .build());
+    }
+
+    static UnmodifiableBlockVolume unmodifiable(Map<Vector3i, BlockState> blocks, BlockState fill, Vector3i min, Vector3i max) {
+        return TestStubs.stub(UnmodifiableBlockVolume.class, ImmutableMap.<String, TestStubs.Handler>builder()
+                .putAll(readHandlers(blocks, fill, min, max))
+                .put("getBlockView", (proxy, args) -> unmodifiable(blocks, fill, (Vector3i) args[0], (Vector3i) args[1]))
+                .put("getBlockWorker", (proxy, args) -> new ParallelBlockVolumeWorker<>((UnmodifiableBlockVolume) proxy, Runnable::run))
+                .build());
+    }
+
+    private static Map<String, TestStubs.Handler> readHandlers(Map<Vector3i, BlockState> blocks, BlockState fill, Vector3i min,
+            Vector3i max) {
+        return ImmutableMap.<String, TestStubs.Handler>builder()
+                .put("getBlockMin", (proxy, args) -> min)
+                .put("getBlockMax", (proxy, args) -> max)
+                .put("getBlockSize", (proxy, args) -> max.sub(min).add(Vector3i.ONE))
+                .put("containsBlock", (proxy, args) -> {
+                    final Vector3i position = new Vector3i((int) args[0], (int) args[1], (int) args[2]);
+                    return position.equals(position.max(min).min(max));
+                })
+                .put("getBlock", (proxy, args) -> blocks.getOrDefault(new Vector3i((int) args[0], (int) args[1], (int) args[2]), fill))
+                .build();
+    }
+
+}